@@ -0,0 +1,68 @@
+package com.balanceup.keum.benchmark;
+
+import java.util.Optional;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.balanceup.keum.config.auth.PrincipalDetailService;
+import com.balanceup.keum.config.util.JwtTokenUtil;
+import com.balanceup.keum.domain.User;
+import com.balanceup.keum.repository.RefreshTokenStore;
+import com.balanceup.keum.repository.UserCache;
+
+final class BenchmarkFixtures {
+
+	static final String USERNAME = "benchmark@keum.com";
+
+	private BenchmarkFixtures() {
+	}
+
+	static User user() {
+		User user = User.of(USERNAME, "$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbench", "nickname", "kakao");
+		ReflectionTestUtils.setField(user, "id", 1L);
+		return user;
+	}
+
+	static JwtTokenUtil jwtTokenUtil(int verifiedTokenCacheSize) {
+		JwtTokenUtil jwtTokenUtil = new JwtTokenUtil(new StubRefreshTokenStore());
+		ReflectionTestUtils.setField(jwtTokenUtil, "accessTokenExpiredTimeMs", 30 * 60 * 1000L);
+		ReflectionTestUtils.setField(jwtTokenUtil, "key", "keum-benchmark-secret-key-keum-benchmark-secret-key");
+		ReflectionTestUtils.setField(jwtTokenUtil, "verifiedTokenCacheSize", verifiedTokenCacheSize);
+		ReflectionTestUtils.invokeMethod(jwtTokenUtil, "init");
+		return jwtTokenUtil;
+	}
+
+	static PrincipalDetailService principalDetailService() {
+		return new PrincipalDetailService(new StubUserCache(user()));
+	}
+
+	private static final class StubRefreshTokenStore extends RefreshTokenStore {
+
+		private StubRefreshTokenStore() {
+			super(null);
+		}
+
+		@Override
+		public String issue(String username) {
+			return "0.session.secret";
+		}
+
+	}
+
+	private static final class StubUserCache extends UserCache {
+
+		private final User user;
+
+		private StubUserCache(User user) {
+			super(null, null);
+			this.user = user;
+		}
+
+		@Override
+		public Optional<User> findByUsername(String username) {
+			return USERNAME.equals(username) ? Optional.of(user.copy()) : Optional.empty();
+		}
+
+	}
+
+}
@@ -0,0 +1,59 @@
+package com.balanceup.keum.benchmark;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.balanceup.keum.config.filter.JwtFilter;
+import com.balanceup.keum.config.util.JwtTokenUtil;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@State(Scope.Thread)
+public class JwtFilterBenchmark {
+
+	@Param({"0", "10000"})
+	private int verifiedTokenCacheSize;
+
+	@Param({"false", "true"})
+	private boolean statelessPrincipal;
+
+	private JwtFilter jwtFilter;
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+	private FilterChain filterChain;
+
+	@Setup
+	public void setUp() {
+		JwtTokenUtil jwtTokenUtil = BenchmarkFixtures.jwtTokenUtil(verifiedTokenCacheSize);
+		jwtFilter = new JwtFilter(BenchmarkFixtures.principalDetailService(), jwtTokenUtil, statelessPrincipal,
+			new SimpleMeterRegistry());
+
+		request = new MockHttpServletRequest("GET", "/routine");
+		request.addHeader(HttpHeaders.AUTHORIZATION,
+			"Bearer " + jwtTokenUtil.generateAccessToken(BenchmarkFixtures.user()));
+		response = new MockHttpServletResponse();
+		filterChain = (servletRequest, servletResponse) -> {
+		};
+	}
+
+	@Benchmark
+	public void doFilterInternal(Blackhole blackhole) throws ServletException, IOException {
+		jwtFilter.doFilter(request, response, filterChain);
+		blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+		SecurityContextHolder.clearContext();
+	}
+
+}
@@ -0,0 +1,48 @@
+package com.balanceup.keum.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.balanceup.keum.config.util.JwtTokenUtil;
+import com.balanceup.keum.controller.dto.TokenDto;
+import com.balanceup.keum.domain.User;
+
+@State(Scope.Benchmark)
+public class JwtTokenUtilBenchmark {
+
+	@Param({"0", "10000"})
+	private int verifiedTokenCacheSize;
+
+	private JwtTokenUtil jwtTokenUtil;
+	private User user;
+	private String accessToken;
+	private UserDetails userDetails;
+
+	@Setup
+	public void setUp() {
+		jwtTokenUtil = BenchmarkFixtures.jwtTokenUtil(verifiedTokenCacheSize);
+		user = BenchmarkFixtures.user();
+		accessToken = jwtTokenUtil.generateAccessToken(user);
+		userDetails = BenchmarkFixtures.principalDetailService().loadUserByUsername(BenchmarkFixtures.USERNAME);
+	}
+
+	@Benchmark
+	public TokenDto generateToken() {
+		return jwtTokenUtil.generateToken(user);
+	}
+
+	@Benchmark
+	public String getUserName() {
+		return jwtTokenUtil.getUserName(accessToken);
+	}
+
+	@Benchmark
+	public boolean validateToken() {
+		return jwtTokenUtil.validateToken(accessToken, userDetails);
+	}
+
+}
@@ -0,0 +1,99 @@
+package com.balanceup.keum.benchmark;
+
+import java.time.Duration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.balanceup.keum.repository.CompareAndSetResult;
+import com.balanceup.keum.repository.InProcessKeyValueStore;
+import com.balanceup.keum.repository.KeyValueStore;
+import com.balanceup.keum.repository.RedisNearCache;
+import com.balanceup.keum.repository.RedisRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@State(Scope.Benchmark)
+public class KeyValueStoreBenchmark {
+
+	private static final String KEY = "benchmark:key";
+	private static final Duration TTL = Duration.ofMinutes(1);
+
+	@Param({"in-process", "redis", "redis-near-cache"})
+	private String type;
+
+	private LettuceConnectionFactory connectionFactory;
+	private RedisNearCache nearCache;
+	private KeyValueStore keyValueStore;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		if (type.startsWith("redis")) {
+			keyValueStore = redisRepository();
+		} else {
+			keyValueStore = new InProcessKeyValueStore(100000, 100);
+		}
+		keyValueStore.setValues(KEY, "value", TTL);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (nearCache != null) {
+			ReflectionTestUtils.invokeMethod(nearCache, "destroy");
+		}
+		if (connectionFactory != null) {
+			connectionFactory.destroy();
+		}
+	}
+
+	@Benchmark
+	public String getValues() {
+		return keyValueStore.getValues(KEY);
+	}
+
+	@Benchmark
+	public void setValues() {
+		keyValueStore.setValues(KEY, "value", TTL);
+	}
+
+	@Benchmark
+	public CompareAndSetResult compareAndSet() {
+		return keyValueStore.compareAndSet(KEY, "value", "value", TTL);
+	}
+
+	private KeyValueStore redisRepository() {
+		connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+		connectionFactory.afterPropertiesSet();
+
+		RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(new StringRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+
+		RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+		listenerContainer.setConnectionFactory(connectionFactory);
+
+		nearCache = new RedisNearCache();
+		ReflectionTestUtils.setField(nearCache, "enabled", "redis-near-cache".equals(type));
+		ReflectionTestUtils.setField(nearCache, "maximumSize", 10000);
+		ReflectionTestUtils.setField(nearCache, "ttlMs", 60 * 1000L);
+		ReflectionTestUtils.setField(nearCache, "host", "localhost");
+		ReflectionTestUtils.setField(nearCache, "port", 6379);
+		ReflectionTestUtils.setField(nearCache, "commandTimeoutMs", 500L);
+		ReflectionTestUtils.invokeMethod(nearCache, "init");
+
+		return new RedisRepository(redisTemplate, listenerContainer, nearCache, new SimpleMeterRegistry());
+	}
+
+}
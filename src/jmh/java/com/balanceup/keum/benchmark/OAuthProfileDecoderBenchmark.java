@@ -0,0 +1,53 @@
+package com.balanceup.keum.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.balanceup.keum.service.oauth.OAuthProfileDecoder;
+import com.balanceup.keum.service.oauth.OAuthUserInfo;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@State(Scope.Benchmark)
+public class OAuthProfileDecoderBenchmark {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	@Param({"kakao", "google"})
+	private String provider;
+
+	private byte[] payload;
+	private OAuthProfileDecoder decoder;
+	private String[] usernamePath;
+
+	@Setup
+	public void setUp() throws IOException {
+		try (InputStream inputStream = getClass().getResourceAsStream("/oauth/" + provider + "-profile.json")) {
+			payload = inputStream.readAllBytes();
+		}
+		usernamePath = "kakao".equals(provider) ? new String[] {"kakao_account", "email"} : new String[] {"email"};
+		decoder = new OAuthProfileDecoder(usernamePath, new String[] {"id"});
+	}
+
+	@Benchmark
+	public OAuthUserInfo streaming() {
+		return decoder.decode(payload);
+	}
+
+	@Benchmark
+	public OAuthUserInfo tree() throws IOException {
+		JsonNode node = OBJECT_MAPPER.readTree(payload);
+		JsonNode username = node;
+		for (String field : usernamePath) {
+			username = username.get(field);
+		}
+		return OAuthUserInfo.of(username.asText(), node.get("id").asText());
+	}
+
+}
@@ -0,0 +1,39 @@
+package com.balanceup.keum.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.balanceup.keum.config.util.BCryptPasswordEncoderCustom;
+import com.balanceup.keum.config.util.SocialCredentialEncoder;
+
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+	private final BCryptPasswordEncoderCustom encoder = new BCryptPasswordEncoderCustom(10);
+
+	private SocialCredentialEncoder credentialEncoder;
+
+	@Setup
+	public void setUp() {
+		credentialEncoder = new SocialCredentialEncoder(encoder);
+		ReflectionTestUtils.setField(credentialEncoder, "scheme", "hmac");
+		ReflectionTestUtils.setField(credentialEncoder, "hmacKey", "keum-benchmark-secret-key");
+		ReflectionTestUtils.setField(credentialEncoder, "hashingPoolSize", 1);
+		ReflectionTestUtils.setField(credentialEncoder, "hashingQueueCapacity", 1);
+		ReflectionTestUtils.invokeMethod(credentialEncoder, "init");
+	}
+
+	@Benchmark
+	public String encode() {
+		return encoder.encode("2544958733");
+	}
+
+	@Benchmark
+	public String hmac() {
+		return credentialEncoder.encode("kakao", "2544958733").join();
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.balanceup.keum.benchmark;
+
+import java.util.Date;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.balanceup.keum.config.util.VerifiedToken;
+import com.balanceup.keum.config.util.VerifiedTokenCache;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+@State(Scope.Thread)
+public class VerifiedTokenCacheBenchmark {
+
+	@Param({"10000"})
+	private int maximumSize;
+
+	private VerifiedTokenCache verifiedTokenCache;
+	private VerifiedToken verifiedToken;
+	private String[] tokens;
+	private long now;
+	private int next;
+	private int hit;
+
+	@Setup
+	public void setUp() {
+		now = System.currentTimeMillis();
+		Claims claims = Jwts.claims();
+		claims.put(VerifiedToken.USERNAME_CLAIM, BenchmarkFixtures.USERNAME);
+		claims.setExpiration(new Date(now + 30 * 60 * 1000L));
+		verifiedToken = VerifiedToken.from(claims);
+
+		tokens = new String[maximumSize * 4];
+		for (int i = 0; i < tokens.length; i++) {
+			tokens[i] = "header.payload-" + i + ".signature";
+		}
+
+		verifiedTokenCache = new VerifiedTokenCache(maximumSize);
+		for (int i = 0; i < maximumSize; i++) {
+			verifiedTokenCache.put(tokens[i], verifiedToken, now);
+		}
+		next = maximumSize;
+	}
+
+	@Benchmark
+	public void putWhenFull() {
+		verifiedTokenCache.put(tokens[next], verifiedToken, now);
+		next = (next + 1) % tokens.length;
+	}
+
+	@Benchmark
+	public VerifiedToken get() {
+		VerifiedToken cached = verifiedTokenCache.get(tokens[hit], now);
+		hit = (hit + 1) % maximumSize;
+		return cached;
+	}
+
+}
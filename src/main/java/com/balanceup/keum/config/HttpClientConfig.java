@@ -0,0 +1,120 @@
+package com.balanceup.keum.config;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+import com.balanceup.keum.config.util.ReadTimeoutContext;
+
+@Configuration
+public class HttpClientConfig {
+
+	@Value("${oauth.executor.pool-size:16}")
+	private int oauthExecutorPoolSize;
+
+	@Value("${oauth.executor.queue-capacity:100}")
+	private int oauthExecutorQueueCapacity;
+
+	@Value("${http.client.pool.max-total:100}")
+	private int poolMaxTotal;
+
+	@Value("${http.client.pool.max-per-route:20}")
+	private int poolMaxPerRoute;
+
+	@Value("${http.client.pool.idle-timeout-ms:30000}")
+	private long poolIdleTimeoutMs;
+
+	@Value("${http.client.keep-alive-ms:30000}")
+	private long keepAliveMs;
+
+	@Value("${http.client.connect-timeout-ms:1000}")
+	private int connectTimeoutMs;
+
+	@Value("${http.client.read-timeout-ms:3000}")
+	private int readTimeoutMs;
+
+	@Value("${http.client.connection-request-timeout-ms:500}")
+	private int connectionRequestTimeoutMs;
+
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient httpClient() {
+		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+			poolIdleTimeoutMs, TimeUnit.MILLISECONDS);
+		connectionManager.setMaxTotal(poolMaxTotal);
+		connectionManager.setDefaultMaxPerRoute(poolMaxPerRoute);
+		connectionManager.setValidateAfterInactivity(1000);
+
+		return HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setDefaultRequestConfig(RequestConfig.custom()
+				.setConnectTimeout(connectTimeoutMs)
+				.setSocketTimeout(readTimeoutMs)
+				.setConnectionRequestTimeout(connectionRequestTimeoutMs)
+				.build())
+			.setKeepAliveStrategy((response, context) -> {
+				long serverKeepAliveMs = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response,
+					context);
+				return serverKeepAliveMs > 0 ? Math.min(serverKeepAliveMs, keepAliveMs) : keepAliveMs;
+			})
+			.evictExpiredConnections()
+			.evictIdleConnections(poolIdleTimeoutMs, TimeUnit.MILLISECONDS)
+			.build();
+	}
+
+	@Bean
+	public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
+		return restTemplateBuilder
+			.requestFactory(this::requestFactory)
+			.setConnectTimeout(Duration.ofMillis(connectTimeoutMs))
+			.setReadTimeout(Duration.ofMillis(readTimeoutMs))
+			.build();
+	}
+
+	HttpComponentsClientHttpRequestFactory requestFactory() {
+		HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(
+			httpClient());
+		requestFactory.setHttpContextFactory((method, uri) -> readTimeoutContext());
+		return requestFactory;
+	}
+
+	private HttpContext readTimeoutContext() {
+		Integer readTimeout = ReadTimeoutContext.get();
+		if (readTimeout == null) {
+			return null;
+		}
+
+		HttpClientContext context = HttpClientContext.create();
+		context.setRequestConfig(RequestConfig.custom()
+			.setConnectTimeout(connectTimeoutMs)
+			.setSocketTimeout(Math.min(readTimeout, readTimeoutMs))
+			.setConnectionRequestTimeout(connectionRequestTimeoutMs)
+			.build());
+		return context;
+	}
+
+	@Bean
+	public ThreadPoolTaskExecutor oauthExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(oauthExecutorPoolSize);
+		executor.setMaxPoolSize(oauthExecutorPoolSize);
+		executor.setQueueCapacity(oauthExecutorQueueCapacity);
+		executor.setThreadNamePrefix("oauth-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		return executor;
+	}
+
+}
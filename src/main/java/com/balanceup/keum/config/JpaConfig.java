@@ -0,0 +1,25 @@
+package com.balanceup.keum.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+	@Value("${jpa.batch-size:50}")
+	private int batchSize;
+
+	@Bean
+	public HibernatePropertiesCustomizer batchingHibernatePropertiesCustomizer() {
+		return properties -> {
+			properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+			properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+			properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+			properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+		};
+	}
+
+}
@@ -1,16 +1,31 @@
 package com.balanceup.keum.config;
 
+import java.time.Duration;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.balanceup.keum.repository.KeyValueStore;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.api.StatefulConnection;
+
 @Configuration
 @EnableRedisRepositories
+@ConditionalOnProperty(name = KeyValueStore.TYPE_PROPERTY, havingValue = "redis", matchIfMissing = true)
 public class RedisConfig {
 
 	@Value("${spring.redis.host}")
@@ -19,9 +34,41 @@ public class RedisConfig {
 	@Value("${spring.redis.port}")
 	private int port;
 
+	@Value("${redis.pool.max-total:16}")
+	private int poolMaxTotal;
+
+	@Value("${redis.pool.max-idle:8}")
+	private int poolMaxIdle;
+
+	@Value("${redis.pool.min-idle:2}")
+	private int poolMinIdle;
+
+	@Value("${redis.connect-timeout-ms:1000}")
+	private long connectTimeoutMs;
+
+	@Value("${redis.command-timeout-ms:500}")
+	private long commandTimeoutMs;
+
 	@Bean
 	public RedisConnectionFactory redisConnectionFactory() {
-		return new LettuceConnectionFactory(host, port);
+		GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
+		poolConfig.setMaxTotal(poolMaxTotal);
+		poolConfig.setMaxIdle(poolMaxIdle);
+		poolConfig.setMinIdle(poolMinIdle);
+		poolConfig.setMaxWait(Duration.ofMillis(commandTimeoutMs));
+
+		LettuceClientConfiguration clientConfiguration = LettucePoolingClientConfiguration.builder()
+			.poolConfig(poolConfig)
+			.commandTimeout(Duration.ofMillis(commandTimeoutMs))
+			.clientOptions(ClientOptions.builder()
+				.socketOptions(SocketOptions.builder()
+					.connectTimeout(Duration.ofMillis(connectTimeoutMs))
+					.keepAlive(true)
+					.build())
+				.build())
+			.build();
+
+		return new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port), clientConfiguration);
 	}
 
 	@Bean
@@ -32,4 +79,11 @@ public class RedisConfig {
 		redisTemplate.setConnectionFactory(redisConnectionFactory());
 		return redisTemplate;
 	}
+
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer() {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory());
+		return container;
+	}
 }
@@ -1,10 +1,14 @@
 package com.balanceup.keum.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import com.balanceup.keum.config.auth.PrincipalDetailService;
@@ -13,28 +17,54 @@ import com.balanceup.keum.config.filter.CustomEntryPoint;
 import com.balanceup.keum.config.filter.JwtFilter;
 import com.balanceup.keum.config.util.JwtTokenUtil;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
 @RequiredArgsConstructor
 @Configuration
 @EnableWebSecurity
-@Slf4j
-public class SecurityConfig extends WebSecurityConfigurerAdapter {
+public class SecurityConfig {
+
+	private static final String[] PUBLIC_PATHS = {"/auth/**", "/login/**"};
+	private static final String NICKNAME_DUPLICATE_PATH = "/user/nickname";
 
 	private final PrincipalDetailService principalDetailService;
 	private final CustomAccessDeniedHandler customAccessDeniedHandler;
 	private final JwtTokenUtil jwtTokenUtil;
 	private final CorsConfig corsConfig;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${jwt.stateless-principal:false}")
+	private boolean statelessPrincipal;
+
+	@Bean
+	@Order(1)
+	public SecurityFilterChain publicFilterChain(HttpSecurity http) throws Exception {
+		http
+			.requestMatchers(matchers -> matchers
+				.antMatchers(PUBLIC_PATHS)
+				.antMatchers(HttpMethod.POST, NICKNAME_DUPLICATE_PATH))
+			.addFilter(corsConfig.corsFilter())
+			.csrf().disable()
+			.authorizeRequests()
+			.anyRequest().permitAll()
+			.and()
+			.sessionManagement()
+			.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+			.and()
+			.requestCache().disable()
+		;
+		return http.build();
+	}
 
-	@Override
-	protected void configure(HttpSecurity http) throws Exception {
+	@Bean
+	@Order(2)
+	public SecurityFilterChain protectedFilterChain(HttpSecurity http) throws Exception {
 		http
 			.addFilter(corsConfig.corsFilter())
 			.csrf().disable()
 			.authorizeRequests()
 			.antMatchers("/admin/**").authenticated()
-			.antMatchers("/auth/**", "/login/**", "/user/**").permitAll()
 			.anyRequest().permitAll()
 			.and()
 			.sessionManagement()
@@ -43,12 +73,13 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 			.logout()
 			.logoutSuccessUrl("/")
 			.and()
-			.addFilterBefore(new JwtFilter(principalDetailService, jwtTokenUtil),
+			.addFilterBefore(new JwtFilter(principalDetailService, jwtTokenUtil, statelessPrincipal, meterRegistry),
 				UsernamePasswordAuthenticationFilter.class)
 			.exceptionHandling()
 			.authenticationEntryPoint(new CustomEntryPoint())
 			.accessDeniedHandler(customAccessDeniedHandler)
 		;
+		return http.build();
 	}
 
 }
@@ -6,7 +6,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import com.balanceup.keum.domain.User;
-import com.balanceup.keum.repository.UserRepository;
+import com.balanceup.keum.repository.UserCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -14,11 +14,11 @@ import lombok.RequiredArgsConstructor;
 @Service
 public class PrincipalDetailService implements UserDetailsService {
 
-	private final UserRepository userRepository;
+	private final UserCache userCache;
 
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-		User user = userRepository.findByUsername(username)
+		User user = userCache.findByUsername(username)
 			.orElseThrow(() -> new UsernameNotFoundException("username이 존재 하지 않습니다."));
 		return new PrincipalDetails(user);
 	}
@@ -11,6 +11,8 @@ import com.balanceup.keum.domain.User;
 
 public class PrincipalDetails implements UserDetails {
 
+	public static final String ROLE_USER = "ROLE_USER";
+
 	private User user;
 
 	public PrincipalDetails(User user) {
@@ -20,7 +22,7 @@ public class PrincipalDetails implements UserDetails {
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
 		Collection<GrantedAuthority> collections = new ArrayList<>();
-		collections.add(new SimpleGrantedAuthority("ROLE_USER"));
+		collections.add(new SimpleGrantedAuthority(ROLE_USER));
 		return collections;
 	}
 
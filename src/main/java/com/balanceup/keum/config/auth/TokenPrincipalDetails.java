@@ -0,0 +1,69 @@
+package com.balanceup.keum.config.auth;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.balanceup.keum.config.util.VerifiedToken;
+
+import lombok.Getter;
+
+@Getter
+public class TokenPrincipalDetails implements UserDetails {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Long userId;
+	private final String username;
+	private final boolean nicknamePresent;
+	private final List<GrantedAuthority> authorities;
+
+	private TokenPrincipalDetails(Long userId, String username, String role, boolean nicknamePresent) {
+		this.userId = userId;
+		this.username = username;
+		this.nicknamePresent = nicknamePresent;
+		this.authorities = List.of(new SimpleGrantedAuthority(role));
+	}
+
+	public static TokenPrincipalDetails from(VerifiedToken verifiedToken) {
+		return new TokenPrincipalDetails(
+			verifiedToken.getUserId(),
+			verifiedToken.getUsername(),
+			verifiedToken.getRole(),
+			verifiedToken.isNicknamePresent());
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return authorities;
+	}
+
+	@Override
+	public String getPassword() {
+		return null;
+	}
+
+	@Override
+	public boolean isAccountNonExpired() {
+		return true;
+	}
+
+	@Override
+	public boolean isAccountNonLocked() {
+		return true;
+	}
+
+	@Override
+	public boolean isCredentialsNonExpired() {
+		return true;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+}
@@ -1,7 +1,6 @@
 package com.balanceup.keum.config.filter;
 
 import java.io.IOException;
-import java.security.Principal;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -16,6 +15,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
 
+import com.balanceup.keum.config.auth.TokenPrincipalDetails;
 import com.balanceup.keum.domain.User;
 import com.balanceup.keum.repository.UserRepository;
 
@@ -36,14 +36,19 @@ public class CustomAccessDeniedHandler implements AccessDeniedHandler {
 		ResponseEntity<String> responseEntity = new ResponseEntity<>("error", HttpStatus.UNAUTHORIZED);
 
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-		Principal principal = (Principal)authentication.getPrincipal();
-		String username = principal.getName();
-		User user = userRepository.findByUsername(username)
-			.orElseThrow(() -> new UsernameNotFoundException("Username 이 존재하지 않습니다."));
 
-		if (user.getNickname() == null) {
+		if (!existNickname(authentication)) {
 			response.setHeader("denied", "nickname이 존재하지 않는 유저입니다.");
 		}
+	}
 
+	private boolean existNickname(Authentication authentication) {
+		if (authentication.getPrincipal() instanceof TokenPrincipalDetails) {
+			return ((TokenPrincipalDetails)authentication.getPrincipal()).isNicknamePresent();
+		}
+
+		User user = userRepository.findByUsername(authentication.getName())
+			.orElseThrow(() -> new UsernameNotFoundException("Username 이 존재하지 않습니다."));
+		return user.existNickname();
 	}
 }
@@ -11,21 +11,41 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.balanceup.keum.config.auth.PrincipalDetailService;
+import com.balanceup.keum.config.auth.TokenPrincipalDetails;
 import com.balanceup.keum.config.util.JwtTokenUtil;
+import com.balanceup.keum.config.util.VerifiedToken;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-@RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
+	private static final String BEARER_PREFIX = "Bearer ";
+	private static final String TOKEN_METRIC = "auth.token";
+	private static final String OUTCOME_TAG = "outcome";
+
 	private final PrincipalDetailService principalDetailService;
 	private final JwtTokenUtil jwtTokenUtil;
+	private final boolean statelessPrincipal;
+
+	private final Counter missingTokenCounter;
+	private final Counter invalidTokenCounter;
+	private final Counter authenticatedCounter;
+
+	public JwtFilter(PrincipalDetailService principalDetailService, JwtTokenUtil jwtTokenUtil,
+		boolean statelessPrincipal, MeterRegistry meterRegistry) {
+		this.principalDetailService = principalDetailService;
+		this.jwtTokenUtil = jwtTokenUtil;
+		this.statelessPrincipal = statelessPrincipal;
+		this.missingTokenCounter = meterRegistry.counter(TOKEN_METRIC, OUTCOME_TAG, "missing");
+		this.invalidTokenCounter = meterRegistry.counter(TOKEN_METRIC, OUTCOME_TAG, "invalid");
+		this.authenticatedCounter = meterRegistry.counter(TOKEN_METRIC, OUTCOME_TAG, "authenticated");
+	}
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -33,31 +53,32 @@ public class JwtFilter extends OncePerRequestFilter {
 
 		final String header = request.getHeader(HttpHeaders.AUTHORIZATION);
 
-		if (header == null || !header.startsWith("Bearer ")) {
-			log.error("Error occurs while getting header, header is invalid");
+		if (header == null || !header.startsWith(BEARER_PREFIX)) {
+			missingTokenCounter.increment();
 			filterChain.doFilter(request, response);
 			return;
 		}
 
 		try {
-			final String token = header.split(" ")[1].trim();
-			String username = jwtTokenUtil.getUserName(token);
-			UserDetails userDetails = principalDetailService.loadUserByUsername(username);
-
-			if (!jwtTokenUtil.validateToken(token, userDetails)) {
-				throw new IllegalStateException("Refresh token 만료");
-			}
-
-			UsernamePasswordAuthenticationToken authentication =
-				new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+			final String token = header.substring(BEARER_PREFIX.length()).trim();
+			VerifiedToken verifiedToken = jwtTokenUtil.verify(token);
+			UserDetails userDetails = getUserDetails(verifiedToken);
 
-			authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-			SecurityContextHolder.getContext().setAuthentication(authentication);
+			SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+			authenticatedCounter.increment();
 		} catch (RuntimeException e) {
-			filterChain.doFilter(request, response);
-			return;
+			invalidTokenCounter.increment();
+			log.debug("Invalid access token: {}", e.getMessage());
 		}
 		filterChain.doFilter(request, response);
 	}
 
+	private UserDetails getUserDetails(VerifiedToken verifiedToken) {
+		if (statelessPrincipal && verifiedToken.hasPrincipalClaims()) {
+			return TokenPrincipalDetails.from(verifiedToken);
+		}
+		return principalDetailService.loadUserByUsername(verifiedToken.getUsername());
+	}
+
 }
@@ -1,8 +1,14 @@
 package com.balanceup.keum.config.util;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
 @Component
 public class BCryptPasswordEncoderCustom extends BCryptPasswordEncoder {
+
+	public BCryptPasswordEncoderCustom(@Value("${password.bcrypt.strength:10}") int strength) {
+		super(strength);
+	}
+
 }
@@ -2,17 +2,21 @@ package com.balanceup.keum.config.util;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
-import java.time.Duration;
 import java.util.Date;
 
+import javax.annotation.PostConstruct;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.balanceup.keum.config.auth.PrincipalDetails;
 import com.balanceup.keum.controller.dto.TokenDto;
-import com.balanceup.keum.repository.RedisRepository;
+import com.balanceup.keum.domain.User;
+import com.balanceup.keum.repository.RefreshTokenStore;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -25,37 +29,57 @@ public class JwtTokenUtil {
 	@Value("${jwt.access-token-expired-time-ms}")
 	private Long accessTokenExpiredTimeMs;
 
-	@Value("${jwt.refresh-token-expired-time-ms}")
-	private Long refreshTokenExpiredTimeMs;
-
 	@Value("${jwt.secret-key}")
 	private String key;
 
+	@Value("${jwt.verified-token-cache-size:10000}")
+	private int verifiedTokenCacheSize;
+
+	private final RefreshTokenStore refreshTokenStore;
+
+	private Key signingKey;
+	private JwtParser jwtParser;
+	private VerifiedTokenCache verifiedTokenCache;
+
+	@PostConstruct
+	void init() {
+		signingKey = Keys.hmacShaKeyFor(key.getBytes(StandardCharsets.UTF_8));
+		jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+		verifiedTokenCache = new VerifiedTokenCache(verifiedTokenCacheSize);
+	}
+
+	public VerifiedToken verify(String token) {
+		long now = System.currentTimeMillis();
+		VerifiedToken cached = verifiedTokenCache.get(token, now);
 
-	private final RedisRepository redisRepository;
+		if (cached != null) {
+			return cached;
+		}
 
+		VerifiedToken verifiedToken = VerifiedToken.from(jwtParser.parseClaimsJws(token).getBody());
+		verifiedTokenCache.put(token, verifiedToken, now);
+		return verifiedToken;
+	}
 
 	public String getUserName(String token) {
-		return extractClaims(token).get("username", String.class);
+		return verify(token).getUsername();
 	}
 
-	private boolean isExpired(String token) {
-		Date expiredDate = extractClaims(token).getExpiration();
-		return expiredDate.before(new Date());
+	public TokenDto generateToken(User user) {
+		return new TokenDto(generateAccessToken(user), refreshTokenStore.issue(user.getUsername()));
 	}
 
-	private Claims extractClaims(String token) {
-		return Jwts.parserBuilder().setSigningKey(getKey())
-			.build().parseClaimsJws(token).getBody();
+	public String generateAccessToken(User user) {
+		return getToken(getAccessTokenClaims(user), accessTokenExpiredTimeMs);
 	}
 
-	public TokenDto generateToken(String username) {
+	private static Claims getAccessTokenClaims(User user) {
 		Claims claims = Jwts.claims();
-		claims.put("username", username);
-		String accessToken = getToken(claims, accessTokenExpiredTimeMs);
-		String refreshToken = getToken(claims, refreshTokenExpiredTimeMs);
-		redisRepository.setValues(username,refreshToken, Duration.ofMillis(refreshTokenExpiredTimeMs));
-		return new TokenDto(accessToken, refreshToken);
+		claims.put(VerifiedToken.USERNAME_CLAIM, user.getUsername());
+		claims.put(VerifiedToken.USER_ID_CLAIM, user.getId());
+		claims.put(VerifiedToken.ROLE_CLAIM, PrincipalDetails.ROLE_USER);
+		claims.put(VerifiedToken.NICKNAME_PRESENT_CLAIM, user.existNickname());
+		return claims;
 	}
 
 	private String getToken(Claims claims, Long tokenExpiredTimeMs) {
@@ -64,18 +88,14 @@ public class JwtTokenUtil {
 			.setClaims(claims)
 			.setIssuedAt(now)
 			.setExpiration(new Date(now.getTime() + tokenExpiredTimeMs))
-			.signWith(getKey(), SignatureAlgorithm.HS256)
+			.signWith(signingKey, SignatureAlgorithm.HS256)
 			.compact();
 	}
 
 	public boolean validateToken(String token, UserDetails userDetails) {
-		final String username = getUserName(token);
-		return (username.equals(userDetails.getUsername())) && !isExpired(token);
-	}
-
-	private Key getKey() {
-		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
-		return Keys.hmacShaKeyFor(keyBytes);
+		VerifiedToken verifiedToken = verify(token);
+		return verifiedToken.getUsername().equals(userDetails.getUsername())
+			&& !verifiedToken.isExpired(System.currentTimeMillis());
 	}
 
 }
@@ -0,0 +1,66 @@
+package com.balanceup.keum.config.util;
+
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+public class LruTtlCache<K, V> {
+
+	private final int maximumSize;
+	private final Cache<K, V> entries;
+
+	public LruTtlCache(int maximumSize, long ttlMs) {
+		this(maximumSize, ttlMs, Ticker.systemTicker());
+	}
+
+	LruTtlCache(int maximumSize, long ttlMs, Ticker ticker) {
+		this.maximumSize = maximumSize;
+		this.entries = Caffeine.newBuilder()
+			.maximumSize(Math.max(maximumSize, 0))
+			.expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+			.ticker(ticker)
+			.executor(Runnable::run)
+			.recordStats()
+			.build();
+	}
+
+	public V get(K key) {
+		return entries.getIfPresent(key);
+	}
+
+	public void put(K key, V value) {
+		if (maximumSize <= 0) {
+			return;
+		}
+
+		entries.put(key, value);
+	}
+
+	public void invalidate(K key) {
+		entries.invalidate(key);
+	}
+
+	public void clear() {
+		entries.invalidateAll();
+	}
+
+	public long size() {
+		entries.cleanUp();
+		return entries.estimatedSize();
+	}
+
+	public long getHitCount() {
+		return entries.stats().hitCount();
+	}
+
+	public long getMissCount() {
+		return entries.stats().missCount();
+	}
+
+	public long getEvictionCount() {
+		return entries.stats().evictionCount();
+	}
+
+}
@@ -0,0 +1,33 @@
+package com.balanceup.keum.config.util;
+
+import java.util.function.Supplier;
+
+public final class ReadTimeoutContext {
+
+	private static final ThreadLocal<Integer> READ_TIMEOUT_MS = new ThreadLocal<>();
+
+	private ReadTimeoutContext() {
+	}
+
+	public static <T> Supplier<T> with(long readTimeoutMs, Supplier<T> supplier) {
+		int timeoutMs = (int)Math.min(Integer.MAX_VALUE, Math.max(1, readTimeoutMs));
+		return () -> {
+			Integer previous = READ_TIMEOUT_MS.get();
+			READ_TIMEOUT_MS.set(timeoutMs);
+			try {
+				return supplier.get();
+			} finally {
+				if (previous == null) {
+					READ_TIMEOUT_MS.remove();
+				} else {
+					READ_TIMEOUT_MS.set(previous);
+				}
+			}
+		};
+	}
+
+	public static Integer get() {
+		return READ_TIMEOUT_MS.get();
+	}
+
+}
@@ -0,0 +1,102 @@
+package com.balanceup.keum.config.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Component
+public class SocialCredentialEncoder implements MeterBinder {
+
+	public static final String HMAC_PREFIX = "{hmac}";
+
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+	private static final String BCRYPT_SCHEME = "bcrypt";
+
+	@Value("${password.social.scheme:hmac}")
+	private String scheme;
+
+	@Value("${password.social.hmac-key}")
+	private String hmacKey;
+
+	@Value("${password.hashing.pool-size:2}")
+	private int hashingPoolSize;
+
+	@Value("${password.hashing.queue-capacity:50}")
+	private int hashingQueueCapacity;
+
+	private final BCryptPasswordEncoder encoder;
+
+	private SecretKeySpec hmacKeySpec;
+	private ThreadPoolTaskExecutor hashingExecutor;
+
+	@PostConstruct
+	void init() {
+		if (hmacKey == null || hmacKey.isBlank()) {
+			throw new IllegalStateException("password.social.hmac-key 가 설정되지 않았습니다.");
+		}
+		hmacKeySpec = new SecretKeySpec(hmacKey.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+
+		hashingExecutor = new ThreadPoolTaskExecutor();
+		hashingExecutor.setCorePoolSize(hashingPoolSize);
+		hashingExecutor.setMaxPoolSize(hashingPoolSize);
+		hashingExecutor.setQueueCapacity(hashingQueueCapacity);
+		hashingExecutor.setThreadNamePrefix("password-hashing-");
+		hashingExecutor.initialize();
+	}
+
+	@PreDestroy
+	void destroy() {
+		hashingExecutor.shutdown();
+	}
+
+	public CompletableFuture<String> encode(String provider, String subject) {
+		if (!BCRYPT_SCHEME.equals(scheme)) {
+			return CompletableFuture.completedFuture(hmac(provider, subject));
+		}
+
+		try {
+			return CompletableFuture.supplyAsync(() -> encoder.encode(subject), hashingExecutor);
+		} catch (RejectedExecutionException e) {
+			return CompletableFuture.failedFuture(
+				new IllegalStateException("가입 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", e));
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("password.hashing.queue", hashingExecutor, e -> e.getThreadPoolExecutor().getQueue().size())
+			.register(registry);
+		Gauge.builder("password.hashing.active", hashingExecutor, ThreadPoolTaskExecutor::getActiveCount)
+			.register(registry);
+	}
+
+	private String hmac(String provider, String subject) {
+		try {
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(hmacKeySpec);
+			byte[] digest = mac.doFinal((provider + ":" + subject).getBytes(StandardCharsets.UTF_8));
+			return HMAC_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
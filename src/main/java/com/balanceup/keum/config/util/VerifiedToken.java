@@ -0,0 +1,51 @@
+package com.balanceup.keum.config.util;
+
+import java.util.Date;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+@Getter
+public final class VerifiedToken {
+
+	public static final String USERNAME_CLAIM = "username";
+	public static final String USER_ID_CLAIM = "uid";
+	public static final String ROLE_CLAIM = "role";
+	public static final String NICKNAME_PRESENT_CLAIM = "nick";
+
+	private final String username;
+	private final long expiresAtMs;
+	private final Long userId;
+	private final String role;
+	private final boolean nicknamePresent;
+
+	private VerifiedToken(String username, long expiresAtMs, Long userId, String role, boolean nicknamePresent) {
+		this.username = username;
+		this.expiresAtMs = expiresAtMs;
+		this.userId = userId;
+		this.role = role;
+		this.nicknamePresent = nicknamePresent;
+	}
+
+	public static VerifiedToken from(Claims claims) {
+		Date expiration = claims.getExpiration();
+		if (expiration == null) {
+			throw new IllegalStateException("만료 시간이 없는 토큰입니다.");
+		}
+		return new VerifiedToken(
+			claims.get(USERNAME_CLAIM, String.class),
+			expiration.getTime(),
+			claims.get(USER_ID_CLAIM, Long.class),
+			claims.get(ROLE_CLAIM, String.class),
+			Boolean.TRUE.equals(claims.get(NICKNAME_PRESENT_CLAIM, Boolean.class)));
+	}
+
+	public boolean isExpired(long nowMs) {
+		return expiresAtMs <= nowMs;
+	}
+
+	public boolean hasPrincipalClaims() {
+		return userId != null && role != null;
+	}
+
+}
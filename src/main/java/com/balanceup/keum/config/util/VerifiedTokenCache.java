@@ -0,0 +1,89 @@
+package com.balanceup.keum.config.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+public class VerifiedTokenCache {
+
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	});
+
+	private final int maximumSize;
+	private final Cache<ByteBuffer, VerifiedToken> tokens;
+
+	public VerifiedTokenCache(int maximumSize) {
+		this.maximumSize = maximumSize;
+		this.tokens = Caffeine.newBuilder()
+			.maximumSize(Math.max(maximumSize, 0))
+			.expireAfter(new TokenExpiry())
+			.executor(Runnable::run)
+			.build();
+	}
+
+	public VerifiedToken get(String token, long nowMs) {
+		ByteBuffer digest = digest(token);
+		VerifiedToken verifiedToken = tokens.getIfPresent(digest);
+
+		if (verifiedToken == null) {
+			return null;
+		}
+
+		if (verifiedToken.isExpired(nowMs)) {
+			tokens.asMap().remove(digest, verifiedToken);
+			return null;
+		}
+
+		return verifiedToken;
+	}
+
+	public void put(String token, VerifiedToken verifiedToken, long nowMs) {
+		if (maximumSize <= 0 || verifiedToken.isExpired(nowMs)) {
+			return;
+		}
+
+		tokens.put(digest(token), verifiedToken);
+	}
+
+	public long size() {
+		tokens.cleanUp();
+		return tokens.estimatedSize();
+	}
+
+	private static ByteBuffer digest(String token) {
+		MessageDigest messageDigest = SHA_256.get();
+		messageDigest.reset();
+		return ByteBuffer.wrap(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static class TokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+
+		@Override
+		public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(value.getExpiresAtMs() - System.currentTimeMillis(), 0));
+		}
+
+		@Override
+		public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+	}
+
+}
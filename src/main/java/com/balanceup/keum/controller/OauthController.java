@@ -1,10 +1,14 @@
 package com.balanceup.keum.controller;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -13,8 +17,7 @@ import com.balanceup.keum.controller.dto.request.user.UserJoinRequest;
 import com.balanceup.keum.controller.dto.request.user.UserLoginRequest;
 import com.balanceup.keum.controller.dto.response.Response;
 import com.balanceup.keum.controller.dto.response.user.UserInfoResponse;
-import com.balanceup.keum.service.GoogleService;
-import com.balanceup.keum.service.KakaoService;
+import com.balanceup.keum.service.oauth.OAuthService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,68 +27,44 @@ import lombok.extern.slf4j.Slf4j;
 @RestController
 public class OauthController {
 
-	private final KakaoService kakaoService;
-	private final GoogleService googleService;
-
-	@GetMapping("/login/kakao")
-	public ResponseEntity<?> getKakaoUserInfo(@RequestParam String accessToken) {
-		return new ResponseEntity<>(
-			Response.of("success", "유저 정보 받아오기 성공",
-				new UserInfoResponse(kakaoService.getUserInfo(accessToken))), HttpStatus.OK
-		);
-	}
+	private final OAuthService oAuthService;
 
-	@PostMapping("/auth/sign-up/kakao")
-	public ResponseEntity<?> kakaoJoin(@RequestBody UserJoinRequest request) {
-		isKakaoLogin(request.getProvider());
-		return new ResponseEntity<>(
-			Response.of("success", "회원가입 성공",
-				new TokenDto(kakaoService.join(request.getUsername(), request.getNickname()))), HttpStatus.CREATED);
+	@RequestMapping(value = "/login/{provider}", method = {RequestMethod.GET, RequestMethod.POST})
+	public CompletableFuture<ResponseEntity<?>> getUserInfo(@PathVariable String provider,
+		@RequestParam String accessToken) {
+		return oAuthService.getUserInfo(provider, accessToken)
+			.thenApply(info -> new ResponseEntity<>(
+				Response.of("success", "유저 정보 받아오기 성공", new UserInfoResponse(info)), HttpStatus.OK));
 	}
 
-	@PostMapping("/auth/sign-in/kakao")
-	public ResponseEntity<?> kakaoLogin(@RequestBody UserLoginRequest request) {
-		isKakaoLogin(request.getProvider());
-
-		return new ResponseEntity<>(
-			Response.of("success", "로그인 성공",
-				new TokenDto(kakaoService.login(request.getUsername()))), HttpStatus.OK);
-	}
-
-	@PostMapping("/login/google")
-	public ResponseEntity<?> getGoogleUserInfo(@RequestParam String accessToken) {
+	@PostMapping("/login/{provider}/id-token")
+	public ResponseEntity<?> getUserInfoByIdToken(@PathVariable String provider, @RequestParam String idToken) {
 		return new ResponseEntity<>(
 			Response.of("success", "유저 정보 받아오기 성공",
-				new UserInfoResponse(googleService.getUserInfo(accessToken))), HttpStatus.OK
-		);
+				new UserInfoResponse(oAuthService.getUserInfoByIdToken(provider, idToken))), HttpStatus.OK);
 	}
 
-	@PostMapping("/auth/sign-up/google")
-	public ResponseEntity<?> googleJoin(@RequestBody UserJoinRequest request) {
-		isGoogleLogin(request.getProvider());
-		return new ResponseEntity<>(
-			Response.of("success", "회원가입 성공",
-				new TokenDto(googleService.join(request.getUsername(), request.getNickname()))), HttpStatus.CREATED);
+	@PostMapping("/auth/sign-up/{provider}")
+	public CompletableFuture<ResponseEntity<?>> join(@PathVariable String provider,
+		@RequestBody UserJoinRequest request) {
+		isSameProvider(provider, request.getProvider());
+		return oAuthService.join(provider, request.getUsername(), request.getNickname())
+			.thenApply(tokens -> new ResponseEntity<>(
+				Response.of("success", "회원가입 성공", new TokenDto(tokens)), HttpStatus.CREATED));
 	}
 
-	@PostMapping("/auth/sign-in/google")
-	public ResponseEntity<?> googleLogin(@RequestBody UserLoginRequest request) {
-		isGoogleLogin(request.getProvider());
+	@PostMapping("/auth/sign-in/{provider}")
+	public ResponseEntity<?> login(@PathVariable String provider, @RequestBody UserLoginRequest request) {
+		isSameProvider(provider, request.getProvider());
 
 		return new ResponseEntity<>(
 			Response.of("success", "로그인 성공",
-				new TokenDto(googleService.login(request.getUsername()))), HttpStatus.OK);
-	}
-
-	private static void isKakaoLogin(String provider) {
-		if (!provider.equals("kakao")) {
-			throw new IllegalStateException("카카오 로그인이 아닙니다.");
-		}
+				new TokenDto(oAuthService.login(provider, request.getUsername()))), HttpStatus.OK);
 	}
 
-	private static void isGoogleLogin(String provider) {
-		if (!provider.equals("google")) {
-			throw new IllegalStateException("구글 로그인이 아닙니다.");
+	private static void isSameProvider(String provider, String requestProvider) {
+		if (!provider.equals(requestProvider)) {
+			throw new IllegalStateException("로그인 제공자가 일치하지 않습니다.");
 		}
 	}
 
@@ -4,6 +4,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -14,7 +15,9 @@ import com.balanceup.keum.controller.dto.request.user.ReIssueRequest;
 import com.balanceup.keum.controller.dto.request.user.UserDeleteRequest;
 import com.balanceup.keum.controller.dto.request.user.UserNicknameDuplicateRequest;
 import com.balanceup.keum.controller.dto.request.user.UserNicknameUpdateRequest;
+import com.balanceup.keum.controller.dto.request.user.UserTimeZoneUpdateRequest;
 import com.balanceup.keum.controller.dto.response.Response;
+import com.balanceup.keum.service.RpService;
 import com.balanceup.keum.service.UserService;
 
 import lombok.RequiredArgsConstructor;
@@ -25,6 +28,7 @@ public class UserController {
 
 	private final UserService userService;
 	private final PrincipalDetailService principalDetailService;
+	private final RpService rpService;
 
 	@PostMapping("/user/nickname")
 	public ResponseEntity<?> duplicateNickname(@RequestBody UserNicknameDuplicateRequest request) {
@@ -39,6 +43,19 @@ public class UserController {
 			HttpStatus.OK);
 	}
 
+	@PutMapping("/user/time-zone")
+	public ResponseEntity<?> updateTimeZone(@RequestBody UserTimeZoneUpdateRequest request) {
+		String username = getUserNameBySecurityContextHolder();
+		return new ResponseEntity<>(getSuccessResponse("시간대 업데이트 성공", userService.updateTimeZone(request, username)),
+			HttpStatus.OK);
+	}
+
+	@GetMapping("/user/rp")
+	public ResponseEntity<?> getRp() {
+		String username = getUserNameBySecurityContextHolder();
+		return new ResponseEntity<>(getSuccessResponse("RP 조회 성공", rpService.getRp(username)), HttpStatus.OK);
+	}
+
 	@PostMapping("/auth/refresh")
 	public ResponseEntity<?> getRefreshToken(@RequestBody ReIssueRequest request) {
 		UserDetails userDetails = principalDetailService.loadUserByUsername(request.getUsername());
@@ -1,5 +1,6 @@
 package com.balanceup.keum.controller.dto.response.routine;
 
+import com.balanceup.keum.domain.DaySet;
 import com.balanceup.keum.domain.Routine;
 import com.balanceup.keum.domain.RoutineCategory;
 
@@ -18,7 +19,7 @@ public class RoutineMakeResponse {
 	private String routineTitle;
 	private RoutineCategory routineCategory;
 	private String alarmTime;
-	private String days;
+	private DaySet days;
 
 	public static RoutineMakeResponse from(String username, Routine routine) {
 		return RoutineMakeResponse.builder()
@@ -1,5 +1,8 @@
 package com.balanceup.keum.controller.dto.response.routine;
 
+import java.util.List;
+
+import com.balanceup.keum.domain.DaySet;
 import com.balanceup.keum.domain.Routine;
 import com.balanceup.keum.domain.User;
 
@@ -17,8 +20,9 @@ public class RoutineResponse {
 	private String username;
 	private Long routineId;
 	private String routineTitle;
-	private String days;
+	private DaySet days;
 	private String alarmTime;
+	private List<Boolean> dailyProgress;
 
 	public static RoutineResponse from(Routine routine, User user) {
 		return RoutineResponse.builder()
@@ -27,6 +31,7 @@ public class RoutineResponse {
 			.routineTitle(routine.getRoutineTitle())
 			.days(routine.getDays())
 			.alarmTime(routine.getAlarmTime())
+			.dailyProgress(routine.getDailyProgress())
 			.build();
 	}
 }
@@ -0,0 +1,38 @@
+package com.balanceup.keum.controller.dto.response.routine;
+
+import java.time.LocalDate;
+
+import com.balanceup.keum.domain.DaySet;
+import com.balanceup.keum.domain.RoutineCategory;
+import com.balanceup.keum.repository.RoutineSummary;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class RoutineSummaryResponse {
+
+	private Long routineId;
+	private String routineTitle;
+	private RoutineCategory routineCategory;
+	private DaySet days;
+	private String alarmTime;
+	private boolean todayCompleted;
+
+	public static RoutineSummaryResponse from(RoutineSummary summary, LocalDate today) {
+		return RoutineSummaryResponse.builder()
+			.routineId(summary.getId())
+			.routineTitle(summary.getRoutineTitle())
+			.routineCategory(summary.getRoutineCategory())
+			.days(summary.getDays())
+			.alarmTime(summary.getAlarmTime())
+			.todayCompleted(summary.isCompletedOn(today))
+			.build();
+	}
+
+}
@@ -1,7 +1,6 @@
 package com.balanceup.keum.domain;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.DayOfWeek;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -17,38 +16,38 @@ public enum Day {
 	FRIDAY("금", 6),
 	SATURDAY("토", 7);
 
+	private static final Day[] DAYS = values();
+
 	private final String value;
 	private final int dayOfTheWeek;
 
-	public static List<Day> of(String days) {
-		return getDayList(days);
+	public int getMask() {
+		return 1 << (dayOfTheWeek - 1);
 	}
 
-	private static List<Day> getDayList(String days) {
-		List<Day> dayList = new ArrayList<>();
-
-		for (int i = 0; i < days.length(); i++) {
-			dayList.add(getDay(String.valueOf(days.charAt(i))));
-		}
-
-		return dayList;
-	}
-
-	private static Day getDay(String daysCharAt) {
-		for (Day day : Day.values()) {
-			if (day.value.equals(daysCharAt)) {
-				return day;
-			}
-		}
-		throw new IllegalArgumentException("잘못된 요일입니다.");
+	public static Day of(DayOfWeek dayOfWeek) {
+		return DAYS[dayOfWeek.getValue() % 7];
 	}
 
-	private static String from(List<Day> days) {
-		StringBuilder sb = new StringBuilder();
-		for (Day day : days) {
-			sb.append(day.value);
+	public static Day of(char value) {
+		switch (value) {
+			case '일':
+				return SUNDAY;
+			case '월':
+				return MONDAY;
+			case '화':
+				return TUESDAY;
+			case '수':
+				return WEDNESDAY;
+			case '목':
+				return THURSDAY;
+			case '금':
+				return FRIDAY;
+			case '토':
+				return SATURDAY;
+			default:
+				throw new IllegalArgumentException("잘못된 요일입니다.");
 		}
-		return sb.toString();
 	}
 
 }
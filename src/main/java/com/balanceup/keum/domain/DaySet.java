@@ -0,0 +1,94 @@
+package com.balanceup.keum.domain;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+public final class DaySet {
+
+	private static final int ALL_DAYS_MASK = (1 << 7) - 1;
+	private static final Day[] DAYS = Day.values();
+	private static final DaySet[] CACHE = new DaySet[ALL_DAYS_MASK + 1];
+
+	static {
+		for (int mask = 0; mask <= ALL_DAYS_MASK; mask++) {
+			CACHE[mask] = new DaySet(mask);
+		}
+	}
+
+	private final int mask;
+
+	private DaySet(int mask) {
+		this.mask = mask;
+	}
+
+	public static DaySet ofMask(int mask) {
+		if ((mask & ~ALL_DAYS_MASK) != 0) {
+			throw new IllegalArgumentException("잘못된 요일입니다.");
+		}
+		return CACHE[mask];
+	}
+
+	@JsonCreator
+	public static DaySet parse(String days) {
+		if (days == null) {
+			return null;
+		}
+
+		int mask = 0;
+		for (int i = 0; i < days.length(); i++) {
+			mask |= Day.of(days.charAt(i)).getMask();
+		}
+		return CACHE[mask];
+	}
+
+	public int getMask() {
+		return mask;
+	}
+
+	public boolean contains(Day day) {
+		return (mask & day.getMask()) != 0;
+	}
+
+	public boolean containsDayOfTheWeek(int dayOfTheWeek) {
+		return (mask & (1 << (dayOfTheWeek - 1))) != 0;
+	}
+
+	public boolean contains(DayOfWeek dayOfWeek) {
+		return containsDayOfTheWeek(dayOfWeek.getValue() % 7 + 1);
+	}
+
+	public int size() {
+		return Integer.bitCount(mask);
+	}
+
+	public boolean isEmpty() {
+		return mask == 0;
+	}
+
+	public List<Day> toList() {
+		List<Day> days = new ArrayList<>(size());
+		for (Day day : DAYS) {
+			if (contains(day)) {
+				days.add(day);
+			}
+		}
+		return days;
+	}
+
+	@JsonValue
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder(size());
+		for (Day day : DAYS) {
+			if (contains(day)) {
+				sb.append(day.getValue());
+			}
+		}
+		return sb.toString();
+	}
+
+}
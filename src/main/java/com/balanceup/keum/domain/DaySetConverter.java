@@ -0,0 +1,19 @@
+package com.balanceup.keum.domain;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+@Converter
+public class DaySetConverter implements AttributeConverter<DaySet, Short> {
+
+	@Override
+	public Short convertToDatabaseColumn(DaySet days) {
+		return days == null ? null : (short)days.getMask();
+	}
+
+	@Override
+	public DaySet convertToEntityAttribute(Short mask) {
+		return mask == null ? null : DaySet.ofMask(mask);
+	}
+
+}
@@ -2,11 +2,14 @@ package com.balanceup.keum.domain;
 
 import java.sql.Timestamp;
 import java.time.Instant;
-import java.util.Calendar;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
@@ -14,11 +17,13 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.PrePersist;
 import javax.persistence.PreUpdate;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
 import com.balanceup.keum.controller.dto.request.routine.RoutineMakeRequest;
@@ -33,26 +38,40 @@ import lombok.ToString;
 @ToString
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "routine")
+@Table(name = "routine", indexes = @Index(name = "idx_routine_user_id", columnList = "user_id"))
 @Entity
 public class Routine {
 
 	public static final int ROUTINE_MAX_DAY = 14;
 	@Id
-	@GeneratedValue(strategy = GenerationType.SEQUENCE)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "routine_seq")
+	@SequenceGenerator(name = "routine_seq", sequenceName = "routine_seq", allocationSize = 50)
 	@Column(name = "routine_id")
 	private Long id;
 
-	@ManyToOne
+	@ToString.Exclude
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "user_id")
 	private User user;
 
 	@Column(length = 100, nullable = false, name = "routine_title")
 	private String routineTitle;
 
-	@JoinColumn(name = "routine_id")
-	@OneToMany(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
-	List<RoutineDay> routineDays;
+	@ToString.Exclude
+	@OneToMany(mappedBy = "routine", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+	List<RoutineDay> routineDays = new ArrayList<>();
+
+	@Column(name = "start_epoch_day")
+	private Long startEpochDay;
+
+	@Column(name = "progress_bitmap")
+	private Integer progressBitmap;
+
+	@Column(name = "completed_count")
+	private Integer completedCount = 0;
+
+	@Column(name = "required_count")
+	private Integer requiredCount;
 
 	private Boolean completed = false;
 
@@ -62,8 +81,9 @@ public class Routine {
 	@Enumerated(EnumType.STRING)
 	private RoutineCategory routineCategory;
 
-	@Column
-	private String days;
+	@Convert(converter = DaySetConverter.class)
+	@Column(name = "days_mask")
+	private DaySet days;
 
 	@Column(name = "create_at")
 	private Timestamp createAt;
@@ -72,12 +92,11 @@ public class Routine {
 	private Timestamp modifiedAt;
 
 	@Builder
-	private Routine(String routineTitle, RoutineCategory routineCategory, String days, String alarmTime,
-		List<RoutineDay> routineDays, User user) {
+	private Routine(String routineTitle, RoutineCategory routineCategory, DaySet days, String alarmTime,
+		User user) {
 		this.routineTitle = routineTitle;
 		this.routineCategory = routineCategory;
 		this.days = days;
-		this.routineDays = routineDays;
 		this.user = user;
 
 		if (isValidTime(alarmTime)) {
@@ -91,7 +110,8 @@ public class Routine {
 
 	public void update(RoutineUpdateRequest request) {
 		this.routineTitle = request.getRoutineTitle();
-		this.days = request.getDays();
+		this.days = DaySet.parse(request.getDays());
+		recountProgress();
 
 		if (isValidTime(alarmTime)) {
 			this.alarmTime = request.getAlarmTime();
@@ -100,62 +120,143 @@ public class Routine {
 		this.alarmTime = null;
 	}
 
-	public static Routine of(String routineTitle, RoutineCategory routineCategory, String days, String alarmTime,
-		List<RoutineDay> routineDays, User user) {
+	public static Routine of(String routineTitle, RoutineCategory routineCategory, DaySet days, String alarmTime,
+		User user) {
 		return Routine.builder()
 			.routineTitle(routineTitle)
 			.routineCategory(routineCategory)
 			.days(days)
 			.alarmTime(alarmTime)
-			.routineDays(routineDays)
 			.user(user)
 			.build();
 	}
 
-	public static Routine ofRoutineInfo(RoutineMakeRequest request, List<RoutineDay> routineDays, User user) {
+	public static Routine ofRoutineInfo(RoutineMakeRequest request, User user) {
 		return of(
 			request.getRoutineTitle(),
 			request.getRoutineCategory(),
-			request.getDays(),
+			DaySet.parse(request.getDays()),
 			request.getAlarmTime(),
-			routineDays,
 			user);
 	}
 
 	public List<Day> getDayList() {
-		return Day.of(this.days);
+		return days.toList();
 	}
 
 	public void completeRoutine() {
 		this.completed = true;
 	}
 
-	public void isAllDone() {
-		List<Day> daysList = Day.of(days);
-		int count = getCompleteCount(daysList);
+	public void addRoutineDay(RoutineDay routineDay) {
+		routineDays.add(routineDay);
+	}
 
-		if (count != daysList.size() * 2) {
-			throw new IllegalStateException("루틴이 완료되지 않았습니다.");
+	public long getCreateEpochDay() {
+		return createAt == null ? 0 : createAt.toLocalDateTime().toLocalDate().toEpochDay();
+	}
+
+	public boolean isBitmapProgress() {
+		return startEpochDay != null;
+	}
+
+	public void startBitmapProgress(LocalDate today) {
+		startBitmapProgress(today, 0);
+	}
+
+	public void startBitmapProgress(LocalDate startDay, int progressBitmap) {
+		this.startEpochDay = startDay.toEpochDay();
+		this.progressBitmap = progressBitmap;
+		recountProgress();
+	}
+
+	public LocalDate getStartDay() {
+		return startEpochDay == null ? null : LocalDate.ofEpochDay(startEpochDay);
+	}
+
+	public void progress(LocalDate today) {
+		int bit = getProgressBit(today);
+
+		if (bit == 0 || (progressBitmap & bit) != 0) {
+			return;
+		}
+		this.progressBitmap |= bit;
+		this.completedCount += isScheduled(bit) ? 1 : 0;
+	}
+
+	public boolean isScheduled(int bit) {
+		return (getScheduledBitmap() & bit) != 0;
+	}
+
+	public int getProgressBit(LocalDate today) {
+		return getProgressBit(startEpochDay, today);
+	}
+
+	public static int getProgressBit(long startEpochDay, LocalDate today) {
+		long order = today.toEpochDay() - startEpochDay;
+
+		if (order < 0 || order >= ROUTINE_MAX_DAY) {
+			return 0;
+		}
+		return 1 << order;
+	}
+
+	public List<Boolean> getDailyProgress() {
+		List<Boolean> dailyProgress = new ArrayList<>(ROUTINE_MAX_DAY);
+
+		if (isBitmapProgress()) {
+			for (int order = 0; order < ROUTINE_MAX_DAY; order++) {
+				dailyProgress.add((progressBitmap & (1 << order)) != 0);
+			}
+			return dailyProgress;
 		}
+
+		routineDays.stream()
+			.sorted(Comparator.comparing(RoutineDay::getEpochDay))
+			.forEach(routineDay -> dailyProgress.add(routineDay.isCompleted()));
+		return dailyProgress;
 	}
 
-	private int getCompleteCount(List<Day> daysList) {
-		int count = 0;
+	public int getScheduledBitmap() {
+		int scheduled = 0;
+		int dayOfTheWeek = getStartDay().getDayOfWeek().getValue() % 7 + 1;
 
+		for (int order = 0; order < ROUTINE_MAX_DAY; order++) {
+			if (days.containsDayOfTheWeek((dayOfTheWeek + order - 1) % 7 + 1)) {
+				scheduled |= 1 << order;
+			}
+		}
+		return scheduled;
+	}
+
+	public void recountProgress() {
+		if (isBitmapProgress()) {
+			int scheduled = getScheduledBitmap();
+			this.requiredCount = Integer.bitCount(scheduled);
+			this.completedCount = Integer.bitCount(progressBitmap & scheduled);
+			return;
+		}
+
+		int required = 0;
+		int completed = 0;
 		for (RoutineDay routineDay : routineDays) {
-			Calendar calendar = Calendar.getInstance();
-			calendar.setTime(routineDay.getDay());
-			int dayOfWeek = calendar.get(Calendar.DAY_OF_WEEK);
-
-			for (Day day : daysList) {
-				if (dayOfWeek == day.getDayOfTheWeek() && this.completed) {
-					count++;
-					break;
-				}
+			if (days.contains(routineDay.getDay().getDayOfWeek())) {
+				required++;
+				completed += routineDay.isCompleted() ? 1 : 0;
 			}
+		}
+		this.requiredCount = required;
+		this.completedCount = completed;
+	}
+
+	public boolean isProgressComplete() {
+		return requiredCount != null && completedCount != null && completedCount >= requiredCount;
+	}
 
+	public void isAllDone() {
+		if (!isProgressComplete()) {
+			throw new IllegalStateException("루틴이 완료되지 않았습니다.");
 		}
-		return count;
 	}
 
 	@PrePersist
@@ -1,43 +1,54 @@
 package com.balanceup.keum.domain;
 
-import java.sql.Timestamp;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDate;
 
+import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
 
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
+@Table(name = "routine_day", indexes = @Index(name = "idx_routine_day_routine_epoch_day",
+	columnList = "routine_id, epoch_day"))
 @Entity
 public class RoutineDay {
 
-	private static final Long DAY_MILLISECOND = 24 * 60 * 60 * 1000L;
-
 	@Id
-	@GeneratedValue(strategy = GenerationType.SEQUENCE)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "routine_day_seq")
+	@SequenceGenerator(name = "routine_day_seq", sequenceName = "routine_day_seq", allocationSize = 50)
 	private Long id;
 
-	private Date day;
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "routine_id", nullable = false)
+	private Routine routine;
+
+	@Column(name = "epoch_day")
+	private Long epochDay;
 
 	private boolean completed = false;
 
-	private RoutineDay(Timestamp day) {
-		this.day = day;
+	private RoutineDay(Routine routine, long epochDay) {
+		this.routine = routine;
+		this.epochDay = epochDay;
 	}
 
-	public boolean isToday(String today) {
-		String routineDay = new SimpleDateFormat("dd-MM-yyyy").format(this.day);
-		return routineDay.equals(today);
+	public static RoutineDay makeRoutineDay(Routine routine, LocalDate startDay, int routineDayOrder) {
+		return new RoutineDay(routine, startDay.toEpochDay() + routineDayOrder);
 	}
 
-	public static RoutineDay makeRoutineDay(Date today, int routineDayOrder) {
-		return new RoutineDay(new Timestamp(today.getTime() + (DAY_MILLISECOND * routineDayOrder)));
+	public LocalDate getDay() {
+		return LocalDate.ofEpochDay(epochDay);
 	}
 
 	public void progress() {
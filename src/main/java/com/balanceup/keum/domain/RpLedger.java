@@ -0,0 +1,55 @@
+package com.balanceup.keum.domain;
+
+import java.sql.Timestamp;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "rp_ledger",
+	uniqueConstraints = @UniqueConstraint(name = "uk_rp_ledger_reward",
+		columnNames = {"routine_id", "epoch_day", "reward_type"}),
+	indexes = @Index(name = "idx_rp_ledger_applied", columnList = "applied, id"))
+@Entity
+public class RpLedger {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(name = "routine_id", nullable = false)
+	private Long routineId;
+
+	@Column(name = "epoch_day", nullable = false)
+	private Long epochDay;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "reward_type", length = 20, nullable = false)
+	private RpRewardType rewardType;
+
+	@Column(nullable = false)
+	private Integer amount;
+
+	@Column(nullable = false)
+	private boolean applied;
+
+	@Column(name = "create_at")
+	private Timestamp createAt;
+
+}
@@ -0,0 +1,14 @@
+package com.balanceup.keum.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum RpRewardType {
+	DAILY_PROGRESS(1),
+	ALL_DONE(20);
+
+	private final int amount;
+
+}
@@ -1,7 +1,10 @@
 package com.balanceup.keum.domain;
 
 import java.sql.Timestamp;
+import java.time.DateTimeException;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -29,6 +32,8 @@ import lombok.ToString;
 @Entity
 public class User {
 
+	public static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.SEQUENCE)
 	private Long id;
@@ -44,7 +49,13 @@ public class User {
 
 	private String provider;
 
-	private Integer rp;
+	private Integer rp = 0;
+
+	@Column(name = "routine_count", columnDefinition = "integer default 0 not null")
+	private int routineCount = 0;
+
+	@Column(name = "time_zone", length = 40)
+	private String timeZone;
 
 	@Column(name = "create_at")
 	private Timestamp createAt;
@@ -71,6 +82,35 @@ public class User {
 		this.provider = provider;
 	}
 
+	public User copy() {
+		User user = new User(username, password, nickname, provider);
+		user.id = id;
+		user.rp = rp;
+		user.routineCount = routineCount;
+		user.timeZone = timeZone;
+		user.createAt = createAt;
+		user.modifiedAt = modifiedAt;
+		user.deletedAt = deletedAt;
+		return user;
+	}
+
+	public User updateTimeZone(String timeZone) {
+		try {
+			this.timeZone = ZoneId.of(timeZone).getId();
+		} catch (DateTimeException | NullPointerException e) {
+			throw new IllegalArgumentException("올바르지 않은 시간대입니다.");
+		}
+		return this;
+	}
+
+	public ZoneId getZoneId() {
+		return timeZone == null ? DEFAULT_ZONE : ZoneId.of(timeZone);
+	}
+
+	public LocalDate today() {
+		return LocalDate.now(getZoneId());
+	}
+
 	public boolean existNickname() {
 		return this.nickname != null;
 	}
@@ -88,8 +128,4 @@ public class User {
 	public void withdraw() {
 		this.deletedAt = Timestamp.from(Instant.now());
 	}
-
-	public void earnRp(int rp) {
-		this.rp += rp;
-	}
 }
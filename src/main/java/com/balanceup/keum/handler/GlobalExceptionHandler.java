@@ -6,10 +6,17 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.balanceup.keum.controller.dto.response.Response;
+import com.balanceup.keum.service.oauth.ProviderUnavailableException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+	@ExceptionHandler(ProviderUnavailableException.class)
+	public ResponseEntity<?> providerUnavailableException(ProviderUnavailableException e) {
+		return new ResponseEntity<>(
+			Response.of("error", e.getMessage()), HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
 	@ExceptionHandler(RuntimeException.class)
 	public ResponseEntity<?> apiException(RuntimeException e) {
 		return new ResponseEntity<>(
@@ -0,0 +1,7 @@
+package com.balanceup.keum.repository;
+
+public enum CompareAndSetResult {
+	SWAPPED,
+	MISSING,
+	MISMATCH
+}
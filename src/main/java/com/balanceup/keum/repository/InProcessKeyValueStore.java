@@ -0,0 +1,290 @@
+package com.balanceup.keum.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = KeyValueStore.TYPE_PROPERTY, havingValue = "in-process")
+public class InProcessKeyValueStore implements KeyValueStore {
+
+	private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+	private final Map<String, StoredValue> values = new ConcurrentHashMap<>();
+	private final Map<String, List<Consumer<String>>> subscribers = new ConcurrentHashMap<>();
+	private final Object guardedWriteLock = new Object();
+	private final AtomicInteger size = new AtomicInteger();
+
+	private final int maximumEntries;
+	private final long tickMs;
+	private final LongSupplier clock;
+	private final TimingWheel timingWheel;
+
+	private ScheduledExecutorService ticker;
+
+	@Autowired
+	public InProcessKeyValueStore(
+		@Value("${kv-store.in-process.maximum-entries:100000}") int maximumEntries,
+		@Value("${kv-store.in-process.tick-ms:100}") long tickMs) {
+		this(maximumEntries, tickMs, System::currentTimeMillis);
+	}
+
+	InProcessKeyValueStore(int maximumEntries, long tickMs, LongSupplier clock) {
+		this.maximumEntries = maximumEntries;
+		this.tickMs = tickMs;
+		this.clock = clock;
+		this.timingWheel = new TimingWheel(tickMs, clock.getAsLong());
+	}
+
+	@PostConstruct
+	void start() {
+		ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "kv-store-expiry");
+			thread.setDaemon(true);
+			return thread;
+		});
+		ticker.scheduleAtFixedRate(this::expire, tickMs, tickMs, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	void stop() {
+		if (ticker != null) {
+			ticker.shutdownNow();
+		}
+	}
+
+	@Override
+	public void setValues(String key, String data) {
+		put(key, new StoredValue(data, NO_EXPIRY, null));
+	}
+
+	@Override
+	public void setValues(String key, String data, Duration duration) {
+		long expiresAtMs = clock.getAsLong() + duration.toMillis();
+		TimingWheel.Timeout timeout = timingWheel.schedule(key, expiresAtMs);
+		try {
+			put(key, new StoredValue(data, expiresAtMs, timeout));
+		} catch (IllegalStateException e) {
+			timingWheel.cancel(timeout);
+			throw e;
+		}
+	}
+
+	@Override
+	public String getValues(String key) {
+		StoredValue storedValue = values.get(key);
+		if (storedValue == null) {
+			return null;
+		}
+
+		if (storedValue.isExpired(clock.getAsLong())) {
+			remove(key, storedValue);
+			return null;
+		}
+		return storedValue.value;
+	}
+
+	@Override
+	public void deleteValues(String key) {
+		values.computeIfPresent(key, (ignored, storedValue) -> {
+			release(storedValue);
+			return null;
+		});
+	}
+
+	@Override
+	public List<String> multiGet(List<String> keys) {
+		List<String> result = new ArrayList<>(keys.size());
+		for (String key : keys) {
+			result.add(getValues(key));
+		}
+		return result;
+	}
+
+	@Override
+	public void multiSet(Collection<KeyValue> keyValues) {
+		for (KeyValue keyValue : keyValues) {
+			if (keyValue.getDuration() == null) {
+				setValues(keyValue.getKey(), keyValue.getValue());
+				continue;
+			}
+			setValues(keyValue.getKey(), keyValue.getValue(), keyValue.getDuration());
+		}
+	}
+
+	@Override
+	public void multiDelete(Collection<String> keys) {
+		for (String key : keys) {
+			deleteValues(key);
+		}
+	}
+
+	@Override
+	public Long increment(String key) {
+		synchronized (guardedWriteLock) {
+			String current = getValues(key);
+			long next = current == null ? 1L : Long.parseLong(current) + 1;
+			StoredValue previous = values.get(key);
+			put(key, previous == null
+				? new StoredValue(String.valueOf(next), NO_EXPIRY, null)
+				: new StoredValue(String.valueOf(next), previous.expiresAtMs, previous.timeout));
+			return next;
+		}
+	}
+
+	@Override
+	public CompareAndSetResult compareAndSet(String key, String expected, String data, Duration duration) {
+		return compareAndSet(null, null, key, expected, data, duration, false);
+	}
+
+	@Override
+	public CompareAndSetResult compareAndSetIf(String guardKey, String guardValue,
+		String key, String expected, String data, Duration duration) {
+		return compareAndSet(guardKey, guardValue, key, expected, data, duration, false);
+	}
+
+	@Override
+	public CompareAndSetResult compareAndSetIfOrDelete(String guardKey, String guardValue,
+		String key, String expected, String data, Duration duration) {
+		return compareAndSet(guardKey, guardValue, key, expected, data, duration, true);
+	}
+
+	private CompareAndSetResult compareAndSet(String guardKey, String guardValue,
+		String key, String expected, String data, Duration duration, boolean deleteOnMismatch) {
+		synchronized (guardedWriteLock) {
+			if (guardKey != null && !isGuardSatisfied(getValues(guardKey), guardValue)) {
+				return CompareAndSetResult.MISSING;
+			}
+
+			String current = getValues(key);
+			if (current == null) {
+				return CompareAndSetResult.MISSING;
+			}
+
+			if (!current.equals(expected)) {
+				if (deleteOnMismatch) {
+					deleteValues(key);
+				}
+				return CompareAndSetResult.MISMATCH;
+			}
+
+			setValues(key, data, duration);
+			return CompareAndSetResult.SWAPPED;
+		}
+	}
+
+	@Override
+	public void publish(String channel, String message) {
+		for (Consumer<String> listener : subscribers.getOrDefault(channel, List.of())) {
+			listener.accept(message);
+		}
+	}
+
+	@Override
+	public void subscribe(String channel, Consumer<String> listener) {
+		subscribers.computeIfAbsent(channel, ignored -> new CopyOnWriteArrayList<>()).add(listener);
+	}
+
+	public int size() {
+		return size.get();
+	}
+
+	int pendingExpirations() {
+		return timingWheel.size();
+	}
+
+	void expire() {
+		long now = clock.getAsLong();
+		for (TimingWheel.Timeout timeout : timingWheel.advance(now)) {
+			values.computeIfPresent(timeout.key, (key, storedValue) -> {
+				if (storedValue.timeout != timeout || !storedValue.isExpired(now)) {
+					return storedValue;
+				}
+				size.decrementAndGet();
+				return null;
+			});
+		}
+	}
+
+	private void put(String key, StoredValue storedValue) {
+		values.compute(key, (ignored, previous) -> {
+			if (previous == null) {
+				reserve();
+			} else if (previous.timeout != storedValue.timeout) {
+				cancel(previous);
+			}
+			return storedValue;
+		});
+	}
+
+	private void remove(String key, StoredValue storedValue) {
+		values.computeIfPresent(key, (ignored, current) -> {
+			if (current != storedValue) {
+				return current;
+			}
+			release(current);
+			return null;
+		});
+	}
+
+	private void reserve() {
+		if (size.incrementAndGet() > maximumEntries) {
+			size.decrementAndGet();
+			throw new IllegalStateException("In-process key-value store 용량을 초과했습니다.");
+		}
+	}
+
+	private void release(StoredValue storedValue) {
+		size.decrementAndGet();
+		cancel(storedValue);
+	}
+
+	private void cancel(StoredValue storedValue) {
+		if (storedValue.timeout != null) {
+			timingWheel.cancel(storedValue.timeout);
+		}
+	}
+
+	private static boolean isGuardSatisfied(String current, String guardValue) {
+		if (guardValue == null) {
+			return current == null;
+		}
+		return guardValue.equals(current);
+	}
+
+	private static final class StoredValue {
+
+		private final String value;
+		private final long expiresAtMs;
+		private final TimingWheel.Timeout timeout;
+
+		private StoredValue(String value, long expiresAtMs, TimingWheel.Timeout timeout) {
+			this.value = value;
+			this.expiresAtMs = expiresAtMs;
+			this.timeout = timeout;
+		}
+
+		private boolean isExpired(long nowMs) {
+			return expiresAtMs <= nowMs;
+		}
+	}
+
+}
@@ -0,0 +1,17 @@
+package com.balanceup.keum.repository;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum KeyNamespace {
+	REFRESH_TOKEN("refresh-token:"),
+	REFRESH_TOKEN_GENERATION("refresh-token-generation:"),
+	OAUTH_CREDENTIAL("oauth-credential:");
+
+	private final String prefix;
+
+	public String key(String... parts) {
+		return prefix + String.join(":", parts);
+	}
+
+}
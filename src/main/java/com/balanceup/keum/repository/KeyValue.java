@@ -0,0 +1,25 @@
+package com.balanceup.keum.repository;
+
+import java.time.Duration;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeyValue {
+
+	private final String key;
+	private final String value;
+	private final Duration duration;
+
+	public static KeyValue of(String key, String value) {
+		return new KeyValue(key, value, null);
+	}
+
+	public static KeyValue of(String key, String value, Duration duration) {
+		return new KeyValue(key, value, duration);
+	}
+
+}
@@ -0,0 +1,40 @@
+package com.balanceup.keum.repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface KeyValueStore {
+
+	String TYPE_PROPERTY = "kv-store.type";
+
+	void setValues(String key, String data);
+
+	void setValues(String key, String data, Duration duration);
+
+	String getValues(String key);
+
+	void deleteValues(String key);
+
+	List<String> multiGet(List<String> keys);
+
+	void multiSet(Collection<KeyValue> keyValues);
+
+	void multiDelete(Collection<String> keys);
+
+	Long increment(String key);
+
+	CompareAndSetResult compareAndSet(String key, String expected, String data, Duration duration);
+
+	CompareAndSetResult compareAndSetIf(String guardKey, String guardValue,
+		String key, String expected, String data, Duration duration);
+
+	CompareAndSetResult compareAndSetIfOrDelete(String guardKey, String guardValue,
+		String key, String expected, String data, Duration duration);
+
+	void publish(String channel, String message);
+
+	void subscribe(String channel, Consumer<String> listener);
+
+}
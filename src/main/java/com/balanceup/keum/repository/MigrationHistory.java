@@ -0,0 +1,39 @@
+package com.balanceup.keum.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Component
+public class MigrationHistory {
+
+	private static final String POSTGRESQL = "PostgreSQL";
+
+	private static final String CREATE_HISTORY = "CREATE TABLE IF NOT EXISTS migration_history ("
+		+ "name VARCHAR(100) PRIMARY KEY, applied_at TIMESTAMP NOT NULL)";
+	private static final String MARK_APPLIED = "INSERT INTO migration_history (name, applied_at) "
+		+ "VALUES (?, now()) ON CONFLICT (name) DO NOTHING";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public String getDatabase() {
+		return jdbcTemplate.execute(
+			(ConnectionCallback<String>)connection -> connection.getMetaData().getDatabaseProductName());
+	}
+
+	public boolean isPostgreSql() {
+		return POSTGRESQL.equals(getDatabase());
+	}
+
+	public void createIfAbsent() {
+		jdbcTemplate.execute(CREATE_HISTORY);
+	}
+
+	public boolean markApplied(String name) {
+		return jdbcTemplate.update(MARK_APPLIED, name) > 0;
+	}
+
+}
@@ -0,0 +1,216 @@
+package com.balanceup.keum.repository;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.balanceup.keum.config.util.LruTtlCache;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Component
+@ConditionalOnProperty(name = KeyValueStore.TYPE_PROPERTY, havingValue = "redis", matchIfMissing = true)
+public class RedisNearCache implements MeterBinder {
+
+	private static final String INVALIDATE_PUSH_TYPE = "invalidate";
+
+	@Value("${redis.near-cache.enabled:false}")
+	private boolean enabled;
+
+	@Value("${redis.near-cache.maximum-size:10000}")
+	private int maximumSize;
+
+	@Value("${redis.near-cache.ttl-ms:60000}")
+	private long ttlMs;
+
+	@Value("${spring.redis.host:localhost}")
+	private String host;
+
+	@Value("${spring.redis.port:6379}")
+	private int port;
+
+	@Value("${redis.command-timeout-ms:500}")
+	private long commandTimeoutMs;
+
+	private final Map<String, Object> pendingFills = new ConcurrentHashMap<>();
+	private final Object trackingLock = new Object();
+
+	private LruTtlCache<String, String> values;
+	private RedisClient redisClient;
+	private StatefulRedisConnection<String, String> connection;
+	private volatile boolean tracking;
+
+	@PostConstruct
+	void init() {
+		values = new LruTtlCache<>(enabled ? maximumSize : 0, ttlMs);
+		if (!enabled) {
+			return;
+		}
+
+		redisClient = RedisClient.create(RedisURI.builder()
+			.withHost(host)
+			.withPort(port)
+			.withTimeout(Duration.ofMillis(commandTimeoutMs))
+			.build());
+		redisClient.setOptions(ClientOptions.builder()
+			.protocolVersion(ProtocolVersion.RESP3)
+			.build());
+		redisClient.addListener(new RedisConnectionStateListener() {
+			@Override
+			public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress socketAddress) {
+			}
+
+			@Override
+			public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+				tracking = false;
+				invalidateAll();
+			}
+
+			@Override
+			public void onRedisExceptionCaught(RedisChannelHandler<?, ?> handler, Throwable cause) {
+			}
+		});
+
+		connection = redisClient.connect();
+		connection.addListener(this::onPushMessage);
+	}
+
+	@PreDestroy
+	void destroy() {
+		if (connection != null) {
+			connection.close();
+		}
+		if (redisClient != null) {
+			redisClient.shutdown();
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public String get(String key) {
+		String cached = getIfPresent(key);
+		if (cached != null) {
+			return cached;
+		}
+		return load(key);
+	}
+
+	public String getIfPresent(String key) {
+		return values.get(key);
+	}
+
+	public String load(String key) {
+		enableTracking();
+		return fill(key, () -> connection.sync().get(key));
+	}
+
+	public void invalidate(String key) {
+		pendingFills.remove(key);
+		values.invalidate(key);
+	}
+
+	public void invalidate(Collection<String> keys) {
+		for (String key : keys) {
+			invalidate(key);
+		}
+	}
+
+	String fill(String key, Supplier<String> loader) {
+		Object marker = new Object();
+		pendingFills.put(key, marker);
+
+		String value;
+		try {
+			value = loader.get();
+		} catch (RuntimeException e) {
+			pendingFills.remove(key, marker);
+			throw e;
+		}
+
+		if (value == null || !tracking) {
+			pendingFills.remove(key, marker);
+			return value;
+		}
+
+		values.put(key, value);
+		if (!pendingFills.remove(key, marker)) {
+			values.invalidate(key);
+		}
+		return value;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("redis.near-cache.requests", values, LruTtlCache::getHitCount)
+			.tag("result", "hit")
+			.register(registry);
+		FunctionCounter.builder("redis.near-cache.requests", values, LruTtlCache::getMissCount)
+			.tag("result", "miss")
+			.register(registry);
+		FunctionCounter.builder("redis.near-cache.evictions", values, LruTtlCache::getEvictionCount)
+			.register(registry);
+		Gauge.builder("redis.near-cache.size", values, LruTtlCache::size)
+			.register(registry);
+	}
+
+	private void enableTracking() {
+		if (tracking) {
+			return;
+		}
+
+		synchronized (trackingLock) {
+			if (!tracking) {
+				connection.sync().clientTracking(TrackingArgs.Builder.enabled());
+				invalidateAll();
+				tracking = true;
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void onPushMessage(PushMessage message) {
+		if (!INVALIDATE_PUSH_TYPE.equals(message.getType())) {
+			return;
+		}
+
+		List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+		Object keys = content.size() > 1 ? content.get(1) : null;
+		if (keys == null) {
+			invalidateAll();
+			return;
+		}
+		invalidate((List<String>)keys);
+	}
+
+	private void invalidateAll() {
+		pendingFills.clear();
+		values.clear();
+	}
+
+}
@@ -1,36 +1,193 @@
 package com.balanceup.keum.repository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 @Component
-public class RedisRepository {
+@ConditionalOnProperty(name = KeyValueStore.TYPE_PROPERTY, havingValue = "redis", matchIfMissing = true)
+public class RedisRepository implements KeyValueStore {
+
+	private static final String REDIS_SOURCE = "redis";
+	private static final String NEAR_SOURCE = "near";
+
+	private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>(
+		"if #KEYS > 1 then\n"
+			+ "  local guard = redis.call('GET', KEYS[2]) or ''\n"
+			+ "  if guard ~= ARGV[4] then return 0 end\n"
+			+ "end\n"
+			+ "local current = redis.call('GET', KEYS[1])\n"
+			+ "if not current then return 0 end\n"
+			+ "if current ~= ARGV[1] then\n"
+			+ "  if ARGV[5] == '1' then redis.call('DEL', KEYS[1]) end\n"
+			+ "  return -1\n"
+			+ "end\n"
+			+ "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])\n"
+			+ "return 1",
+		Long.class);
 
 	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final RedisNearCache nearCache;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, Timer> timers = new ConcurrentHashMap<>();
 
-	public RedisRepository(RedisTemplate<String, String> redisTemplate) {
+	public RedisRepository(RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer listenerContainer, RedisNearCache nearCache, @Lazy MeterRegistry meterRegistry) {
 		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.nearCache = nearCache;
+		this.meterRegistry = meterRegistry;
 	}
 
+	@Override
 	public void setValues(String key, String data) {
 		ValueOperations<String, String> values = redisTemplate.opsForValue();
-		values.set(key, data);
+		timer("set").record(() -> values.set(key, data));
+		nearCache.invalidate(key);
 	}
 
+	@Override
 	public void setValues(String key, String data, Duration duration) {
 		ValueOperations<String, String> values = redisTemplate.opsForValue();
-		values.set(key, data, duration);
+		timer("set").record(() -> values.set(key, data, duration));
+		nearCache.invalidate(key);
 	}
 
+	@Override
 	public String getValues(String key) {
+		if (nearCache.isEnabled()) {
+			Timer.Sample sample = Timer.start(meterRegistry);
+			String cached = nearCache.getIfPresent(key);
+			if (cached != null) {
+				sample.stop(timer("get", NEAR_SOURCE));
+				return cached;
+			}
+			return timer("get").record(() -> nearCache.load(key));
+		}
+
 		ValueOperations<String, String> values = redisTemplate.opsForValue();
-		return values.get(key);
+		return timer("get").record(() -> values.get(key));
 	}
 
+	@Override
 	public void deleteValues(String key) {
-		redisTemplate.delete(key);
+		timer("del").record(() -> redisTemplate.delete(key));
+		nearCache.invalidate(key);
+	}
+
+	@Override
+	public List<String> multiGet(List<String> keys) {
+		ValueOperations<String, String> values = redisTemplate.opsForValue();
+		return timer("mget").record(() -> values.multiGet(keys));
+	}
+
+	@Override
+	public void multiSet(Collection<KeyValue> keyValues) {
+		timer("mset").record(() -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+				ValueOperations<String, String> values = ((RedisOperations<String, String>)operations).opsForValue();
+				for (KeyValue keyValue : keyValues) {
+					if (keyValue.getDuration() == null) {
+						values.set(keyValue.getKey(), keyValue.getValue());
+						continue;
+					}
+					values.set(keyValue.getKey(), keyValue.getValue(), keyValue.getDuration());
+				}
+				return null;
+			}
+		}));
+		nearCache.invalidate(keyValues.stream().map(KeyValue::getKey).collect(Collectors.toList()));
+	}
+
+	@Override
+	public void multiDelete(Collection<String> keys) {
+		timer("del").record(() -> redisTemplate.delete(keys));
+		nearCache.invalidate(keys);
+	}
+
+	@Override
+	public Long increment(String key) {
+		ValueOperations<String, String> values = redisTemplate.opsForValue();
+		Long incremented = timer("incr").record(() -> values.increment(key));
+		nearCache.invalidate(key);
+		return incremented;
+	}
+
+	@Override
+	public CompareAndSetResult compareAndSet(String key, String expected, String data, Duration duration) {
+		return compareAndSet(key, expected, data, duration, List.of(key), "", false);
+	}
+
+	@Override
+	public CompareAndSetResult compareAndSetIf(String guardKey, String guardValue,
+		String key, String expected, String data, Duration duration) {
+		return compareAndSet(key, expected, data, duration, List.of(key, guardKey),
+			guardValue == null ? "" : guardValue, false);
+	}
+
+	@Override
+	public CompareAndSetResult compareAndSetIfOrDelete(String guardKey, String guardValue,
+		String key, String expected, String data, Duration duration) {
+		return compareAndSet(key, expected, data, duration, List.of(key, guardKey),
+			guardValue == null ? "" : guardValue, true);
+	}
+
+	private CompareAndSetResult compareAndSet(String key, String expected, String data, Duration duration,
+		List<String> keys, String guardValue, boolean deleteOnMismatch) {
+		Long result = timer("cas").record(() -> redisTemplate.execute(COMPARE_AND_SET_SCRIPT, keys,
+			expected, data, String.valueOf(duration.toMillis()), guardValue, deleteOnMismatch ? "1" : "0"));
+		nearCache.invalidate(key);
+
+		if (result == null || result == 0) {
+			return CompareAndSetResult.MISSING;
+		}
+		return result > 0 ? CompareAndSetResult.SWAPPED : CompareAndSetResult.MISMATCH;
+	}
+
+	@Override
+	public void publish(String channel, String message) {
+		timer("publish").record(() -> redisTemplate.convertAndSend(channel, message));
+	}
+
+	@Override
+	public void subscribe(String channel, Consumer<String> listener) {
+		listenerContainer.addMessageListener(
+			(message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+			new ChannelTopic(channel));
+	}
+
+	private Timer timer(String command) {
+		return timer(command, REDIS_SOURCE);
+	}
+
+	private Timer timer(String command, String source) {
+		return timers.computeIfAbsent(command + ":" + source, name -> Timer.builder("redis.command")
+			.tag("command", command)
+			.tag("source", source)
+			.register(meterRegistry));
 	}
 }
@@ -0,0 +1,112 @@
+package com.balanceup.keum.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Component
+public class RefreshTokenStore {
+
+	public static final String INVALID_REFRESH_TOKEN_MESSAGE = "만료되거나 존재하지 않는 RefreshToken 입니다. 다시 로그인을 시도해주세요";
+	public static final String REUSED_REFRESH_TOKEN_MESSAGE = "이미 사용된 RefreshToken 입니다. 다시 로그인을 시도해주세요";
+
+	private static final String INITIAL_GENERATION = "0";
+	private static final String SEPARATOR = ".";
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	@Value("${jwt.refresh-token-expired-time-ms}")
+	private Long refreshTokenExpiredTimeMs;
+
+	private final KeyValueStore keyValueStore;
+
+	public String issue(String username) {
+		String generation = getGeneration(username);
+		String sessionId = randomToken(16);
+		String secret = randomToken(32);
+
+		keyValueStore.setValues(
+			sessionKey(username, generation, sessionId),
+			digest(secret),
+			Duration.ofMillis(refreshTokenExpiredTimeMs));
+
+		return String.join(SEPARATOR, generation, sessionId, secret);
+	}
+
+	public String rotate(String username, String refreshToken) {
+		String[] parts = parse(refreshToken);
+		String generation = parts[0];
+		String sessionId = parts[1];
+		String sessionKey = sessionKey(username, generation, sessionId);
+		String newSecret = randomToken(32);
+
+		CompareAndSetResult result = keyValueStore.compareAndSetIfOrDelete(
+			KeyNamespace.REFRESH_TOKEN_GENERATION.key(username),
+			INITIAL_GENERATION.equals(generation) ? null : generation,
+			sessionKey,
+			digest(parts[2]),
+			digest(newSecret),
+			Duration.ofMillis(refreshTokenExpiredTimeMs));
+
+		if (result == CompareAndSetResult.MISMATCH) {
+			throw new IllegalStateException(REUSED_REFRESH_TOKEN_MESSAGE);
+		}
+
+		if (result == CompareAndSetResult.MISSING) {
+			throw new IllegalStateException(INVALID_REFRESH_TOKEN_MESSAGE);
+		}
+
+		return String.join(SEPARATOR, generation, sessionId, newSecret);
+	}
+
+	public void revokeAll(String username) {
+		keyValueStore.increment(KeyNamespace.REFRESH_TOKEN_GENERATION.key(username));
+	}
+
+	private String getGeneration(String username) {
+		String generation = keyValueStore.getValues(KeyNamespace.REFRESH_TOKEN_GENERATION.key(username));
+		return generation == null ? INITIAL_GENERATION : generation;
+	}
+
+	private static String sessionKey(String username, String generation, String sessionId) {
+		return KeyNamespace.REFRESH_TOKEN.key(username, generation, sessionId);
+	}
+
+	private static String[] parse(String refreshToken) {
+		if (refreshToken == null) {
+			throw new IllegalStateException(INVALID_REFRESH_TOKEN_MESSAGE);
+		}
+
+		String[] parts = refreshToken.split("\\.");
+		if (parts.length != 3) {
+			throw new IllegalStateException(INVALID_REFRESH_TOKEN_MESSAGE);
+		}
+		return parts;
+	}
+
+	private static String randomToken(int byteLength) {
+		byte[] bytes = new byte[byteLength];
+		RANDOM.nextBytes(bytes);
+		return ENCODER.encodeToString(bytes);
+	}
+
+	private static String digest(String secret) {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+			return ENCODER.encodeToString(messageDigest.digest(secret.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
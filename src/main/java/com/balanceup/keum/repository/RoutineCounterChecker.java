@@ -0,0 +1,80 @@
+package com.balanceup.keum.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.balanceup.keum.domain.Routine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "routine.counter.check.enabled", havingValue = "true", matchIfMissing = true)
+public class RoutineCounterChecker {
+
+	private static final String SCHEDULED_DAY = "(%s.days_mask & (1 << CAST(MOD(%s + 4, 7) AS int))) <> 0";
+
+	private static final String ROW_COUNTS = "SELECT d.routine_id, COUNT(*) AS required_count, "
+		+ "COUNT(*) FILTER (WHERE d.completed) AS completed_count, "
+		+ "s.required_count AS old_required_count, s.completed_count AS old_completed_count "
+		+ "FROM routine_day d JOIN routine s ON s.routine_id = d.routine_id "
+		+ "WHERE s.start_epoch_day IS NULL AND " + String.format(SCHEDULED_DAY, "s", "d.epoch_day") + " "
+		+ "GROUP BY d.routine_id, s.required_count, s.completed_count";
+
+	private static final String BITMAP_COUNTS = "SELECT s.routine_id, COUNT(*) AS required_count, "
+		+ "COUNT(*) FILTER (WHERE (s.progress_bitmap & (1 << o.n)) <> 0) AS completed_count, "
+		+ "s.required_count AS old_required_count, s.completed_count AS old_completed_count "
+		+ "FROM routine s CROSS JOIN generate_series(0, " + (Routine.ROUTINE_MAX_DAY - 1) + ") AS o(n) "
+		+ "WHERE s.start_epoch_day IS NOT NULL AND " + String.format(SCHEDULED_DAY, "s", "s.start_epoch_day + o.n")
+		+ " GROUP BY s.routine_id, s.required_count, s.completed_count";
+
+	private static final String DRIFTED = "(c.required_count IS DISTINCT FROM c.old_required_count"
+		+ " OR c.completed_count IS DISTINCT FROM c.old_completed_count)";
+
+	private static final String COUNT_DRIFTED = "SELECT COUNT(*) FROM (%s) c WHERE " + DRIFTED;
+
+	private static final String REPAIR = "UPDATE routine r "
+		+ "SET required_count = c.required_count, completed_count = c.completed_count "
+		+ "FROM (%s) c WHERE r.routine_id = c.routine_id AND " + DRIFTED
+		+ " AND r.required_count IS NOT DISTINCT FROM c.old_required_count"
+		+ " AND r.completed_count IS NOT DISTINCT FROM c.old_completed_count";
+
+	@Value("${routine.counter.check.repair:false}")
+	private boolean repair;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final MigrationHistory migrationHistory;
+
+	@Scheduled(initialDelayString = "${routine.counter.check.initial-delay-ms:0}",
+		fixedDelayString = "${routine.counter.check.interval-ms:86400000}")
+	public void check() {
+		if (!migrationHistory.isPostgreSql()) {
+			return;
+		}
+
+		if (!repair) {
+			int drifted = countDrifted(ROW_COUNTS) + countDrifted(BITMAP_COUNTS);
+			if (drifted > 0) {
+				log.warn("routine 완료 카운터가 실제 진행과 다른 루틴이 {} 건 있습니다.", drifted);
+			}
+			return;
+		}
+
+		int repaired = jdbcTemplate.update(String.format(REPAIR, ROW_COUNTS))
+			+ jdbcTemplate.update(String.format(REPAIR, BITMAP_COUNTS));
+		if (repaired > 0) {
+			log.warn("routine 완료 카운터가 실제 진행과 달라 {} 건 재계산했습니다.", repaired);
+		}
+	}
+
+	private int countDrifted(String counts) {
+		Integer drifted = jdbcTemplate.queryForObject(String.format(COUNT_DRIFTED, counts), Integer.class);
+		return drifted == null ? 0 : drifted;
+	}
+
+}
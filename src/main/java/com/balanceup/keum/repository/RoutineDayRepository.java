@@ -1,8 +1,18 @@
 package com.balanceup.keum.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.balanceup.keum.domain.RoutineDay;
 
 public interface RoutineDayRepository extends JpaRepository<RoutineDay, Long> {
+
+	@Modifying
+	@Query("UPDATE RoutineDay d SET d.completed = true "
+		+ "WHERE d.routine.id = :routineId AND d.epochDay = :epochDay AND d.completed = false "
+		+ "AND EXISTS (SELECT r.id FROM Routine r WHERE r.id = :routineId AND r.user.id = :userId)")
+	int progress(@Param("routineId") Long routineId, @Param("userId") Long userId, @Param("epochDay") long epochDay);
+
 }
@@ -0,0 +1,64 @@
+package com.balanceup.keum.repository;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "routine.migration.days-mask", havingValue = "true", matchIfMissing = true)
+public class RoutineDaysMaskMigration implements ApplicationRunner {
+
+	static final String MIGRATION_NAME = "routine-days-mask";
+
+	private static final String LEGACY_COLUMN_EXISTS = "SELECT COUNT(*) FROM information_schema.columns "
+		+ "WHERE table_schema = current_schema() AND table_name = 'routine' AND column_name = 'days'";
+
+	private static final String BACKFILL = "UPDATE routine SET days_mask = "
+		+ "(CASE WHEN position('일' in days) > 0 THEN 1 ELSE 0 END)"
+		+ " | (CASE WHEN position('월' in days) > 0 THEN 2 ELSE 0 END)"
+		+ " | (CASE WHEN position('화' in days) > 0 THEN 4 ELSE 0 END)"
+		+ " | (CASE WHEN position('수' in days) > 0 THEN 8 ELSE 0 END)"
+		+ " | (CASE WHEN position('목' in days) > 0 THEN 16 ELSE 0 END)"
+		+ " | (CASE WHEN position('금' in days) > 0 THEN 32 ELSE 0 END)"
+		+ " | (CASE WHEN position('토' in days) > 0 THEN 64 ELSE 0 END) "
+		+ "WHERE days_mask IS NULL AND days IS NOT NULL";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final MigrationHistory migrationHistory;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (!migrationHistory.isPostgreSql()) {
+			log.info("{} 에서는 routine.days 변환을 건너뜁니다.", migrationHistory.getDatabase());
+			return;
+		}
+
+		migrationHistory.createIfAbsent();
+		transactionTemplate.executeWithoutResult(status -> {
+			if (!migrationHistory.markApplied(MIGRATION_NAME)) {
+				return;
+			}
+
+			Integer legacyColumns = jdbcTemplate.queryForObject(LEGACY_COLUMN_EXISTS, Integer.class);
+			if (legacyColumns == null || legacyColumns == 0) {
+				return;
+			}
+
+			int updated = jdbcTemplate.update(BACKFILL);
+			log.info("routine.days 를 days_mask 로 {} 건 변환했습니다.", updated);
+		});
+	}
+
+}
@@ -0,0 +1,51 @@
+package com.balanceup.keum.repository;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "routine.migration.epoch-day", havingValue = "true", matchIfMissing = true)
+public class RoutineEpochDayMigration implements ApplicationRunner {
+
+	private static final String LEGACY_COLUMN_EXISTS = "SELECT COUNT(*) FROM information_schema.columns "
+		+ "WHERE table_name = ? AND column_name = ?";
+
+	private static final String ROUTINE_DAY_BACKFILL = "UPDATE routine_day "
+		+ "SET epoch_day = day::date - DATE '1970-01-01' WHERE epoch_day IS NULL AND day IS NOT NULL";
+
+	private static final String ROUTINE_BACKFILL = "UPDATE routine "
+		+ "SET start_epoch_day = start_date::date - DATE '1970-01-01' "
+		+ "WHERE start_epoch_day IS NULL AND start_date IS NOT NULL";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		backfill("routine_day", "day", ROUTINE_DAY_BACKFILL);
+		backfill("routine", "start_date", ROUTINE_BACKFILL);
+	}
+
+	private void backfill(String table, String legacyColumn, String sql) {
+		Integer legacyColumns = jdbcTemplate.queryForObject(LEGACY_COLUMN_EXISTS, Integer.class, table, legacyColumn);
+		if (legacyColumns == null || legacyColumns == 0) {
+			return;
+		}
+
+		int updated = jdbcTemplate.update(sql);
+		if (updated > 0) {
+			log.info("{}.{} 를 epoch day 로 {} 건 변환했습니다.", table, legacyColumn, updated);
+		}
+	}
+
+}
@@ -0,0 +1,93 @@
+package com.balanceup.keum.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.balanceup.keum.domain.Routine;
+import com.balanceup.keum.domain.RoutineDay;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@ConditionalOnProperty(name = "routine.migration.progress-bitmap", havingValue = "true")
+public class RoutineProgressMigration implements ApplicationRunner {
+
+	@Value("${routine.migration.batch-size:100}")
+	private int batchSize;
+
+	private final RoutineRepository routineRepository;
+	private final RoutineDayRepository routineDayRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		int migrated = 0;
+		int batch;
+
+		do {
+			batch = transactionTemplate.execute(status -> migrateBatch());
+			migrated += batch;
+		} while (batch == batchSize);
+
+		log.info("routine_day 를 progress_bitmap 으로 {} 건 변환했습니다.", migrated);
+
+		long skipped = routineRepository.countByStartEpochDayIsNullAndDaysIsNull();
+		if (skipped > 0) {
+			log.warn("요일 정보가 없는 루틴 {} 건은 progress_bitmap 변환을 건너뛰었습니다.", skipped);
+		}
+	}
+
+	private int migrateBatch() {
+		List<Routine> routines = routineRepository.findAllByStartEpochDayIsNullAndDaysIsNotNull(
+			PageRequest.of(0, batchSize));
+
+		for (Routine routine : routines) {
+			migrate(routine);
+		}
+		return routines.size();
+	}
+
+	private void migrate(Routine routine) {
+		List<RoutineDay> routineDays = routine.getRoutineDays();
+		if (routineDays.isEmpty()) {
+			routine.startBitmapProgress(routine.getCreateAt() == null
+				? routine.getUser().today()
+				: routine.getCreateAt().toInstant().atZone(routine.getUser().getZoneId()).toLocalDate());
+			return;
+		}
+
+		long startEpochDay = routineDays.get(0).getEpochDay();
+		for (RoutineDay routineDay : routineDays) {
+			startEpochDay = Math.min(startEpochDay, routineDay.getEpochDay());
+		}
+
+		int progressBitmap = 0;
+		for (RoutineDay routineDay : routineDays) {
+			long order = routineDay.getEpochDay() - startEpochDay;
+			if (routineDay.isCompleted() && order < Routine.ROUTINE_MAX_DAY) {
+				progressBitmap |= 1 << order;
+			}
+		}
+
+		routine.startBitmapProgress(LocalDate.ofEpochDay(startEpochDay), progressBitmap);
+		List<RoutineDay> legacyRoutineDays = new ArrayList<>(routineDays);
+		routineDays.clear();
+		routineDayRepository.deleteAllInBatch(legacyRoutineDays);
+	}
+
+}
@@ -1,12 +1,49 @@
 package com.balanceup.keum.repository;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.balanceup.keum.domain.Routine;
-import com.balanceup.keum.domain.User;
 
 public interface RoutineRepository extends JpaRepository<Routine, Long> {
-	List<Routine> findAllByUser(User user);
+	List<Routine> findAllByStartEpochDayIsNullAndDaysIsNotNull(Pageable pageable);
+
+	long countByStartEpochDayIsNullAndDaysIsNull();
+
+	@Query("SELECT r FROM Routine r JOIN FETCH r.user u "
+		+ "WHERE r.id = :id AND u.username = :username AND u.deletedAt IS NULL")
+	Optional<Routine> findByIdAndUser_Username(@Param("id") Long id, @Param("username") String username);
+
+	@EntityGraph(attributePaths = "routineDays")
+	@Query("SELECT r FROM Routine r JOIN FETCH r.user u "
+		+ "WHERE r.id = :id AND u.username = :username AND u.deletedAt IS NULL")
+	Optional<Routine> findDetailByIdAndUser_Username(@Param("id") Long id, @Param("username") String username);
+
+	Optional<Routine> findByIdAndUser_Id(Long id, Long userId);
+
+	@Query("SELECT r.id AS id, r.routineTitle AS routineTitle, r.routineCategory AS routineCategory, "
+		+ "r.days AS days, r.alarmTime AS alarmTime, r.startEpochDay AS startEpochDay, "
+		+ "r.progressBitmap AS progressBitmap, d.completed AS routineDayCompleted "
+		+ "FROM Routine r LEFT JOIN r.routineDays d ON d.epochDay = :today "
+		+ "WHERE r.user.id = :userId ORDER BY r.id")
+	List<RoutineSummary> findAllSummariesByUserId(@Param("userId") Long userId, @Param("today") long today);
+
+	@Modifying
+	@Query(value = "UPDATE routine SET progress_bitmap = progress_bitmap | :bit, "
+		+ "completed_count = COALESCE(completed_count, 0) + :scheduled "
+		+ "WHERE routine_id = :routineId AND user_id = :userId AND (progress_bitmap & :bit) = 0", nativeQuery = true)
+	int progressBitmap(@Param("routineId") Long routineId, @Param("userId") Long userId, @Param("bit") int bit,
+		@Param("scheduled") int scheduled);
+
+	@Modifying
+	@Query(value = "UPDATE routine SET completed_count = COALESCE(completed_count, 0) + 1 "
+		+ "WHERE routine_id = :routineId AND MOD(days_mask / :dayMask, 2) = 1", nativeQuery = true)
+	int increaseCompletedCount(@Param("routineId") Long routineId, @Param("dayMask") int dayMask);
 }
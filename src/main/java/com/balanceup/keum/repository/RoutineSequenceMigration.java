@@ -0,0 +1,61 @@
+package com.balanceup.keum.repository;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "routine.migration.sequences", havingValue = "true", matchIfMissing = true)
+public class RoutineSequenceMigration implements SmartInitializingSingleton {
+
+	static final String MIGRATION_NAME = "routine-sequences";
+
+	private static final int ALLOCATION_SIZE = 50;
+
+	private static final String SEQUENCE_EXISTS = "SELECT COUNT(*) FROM information_schema.sequences "
+		+ "WHERE sequence_schema = current_schema() AND sequence_name = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final MigrationHistory migrationHistory;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		if (!migrationHistory.isPostgreSql()) {
+			log.info("{} 에서는 루틴 시퀀스 정렬을 건너뜁니다.", migrationHistory.getDatabase());
+			return;
+		}
+		if (!sequenceExists("routine_seq") || !sequenceExists("routine_day_seq")) {
+			log.warn("루틴 시퀀스가 아직 없어 정렬을 다음 기동으로 미룹니다.");
+			return;
+		}
+
+		migrationHistory.createIfAbsent();
+		transactionTemplate.executeWithoutResult(status -> {
+			if (!migrationHistory.markApplied(MIGRATION_NAME)) {
+				return;
+			}
+			alignSequence("routine_seq", "routine", "routine_id");
+			alignSequence("routine_day_seq", "routine_day", "id");
+		});
+	}
+
+	private boolean sequenceExists(String sequence) {
+		Integer sequences = jdbcTemplate.queryForObject(SEQUENCE_EXISTS, Integer.class, sequence);
+		return sequences != null && sequences > 0;
+	}
+
+	private void alignSequence(String sequence, String table, String idColumn) {
+		jdbcTemplate.queryForList("SELECT setval('" + sequence + "', max_id + " + ALLOCATION_SIZE + ") "
+			+ "FROM (SELECT COALESCE(MAX(" + idColumn + "), 0) AS max_id FROM " + table + ") ids "
+			+ "WHERE max_id + " + ALLOCATION_SIZE + " > (SELECT last_value FROM " + sequence + ")");
+	}
+
+}
@@ -0,0 +1,34 @@
+package com.balanceup.keum.repository;
+
+import java.time.LocalDate;
+
+import com.balanceup.keum.domain.DaySet;
+import com.balanceup.keum.domain.Routine;
+import com.balanceup.keum.domain.RoutineCategory;
+
+public interface RoutineSummary {
+
+	Long getId();
+
+	String getRoutineTitle();
+
+	RoutineCategory getRoutineCategory();
+
+	DaySet getDays();
+
+	String getAlarmTime();
+
+	Long getStartEpochDay();
+
+	Integer getProgressBitmap();
+
+	Boolean getRoutineDayCompleted();
+
+	default boolean isCompletedOn(LocalDate today) {
+		if (getStartEpochDay() == null) {
+			return Boolean.TRUE.equals(getRoutineDayCompleted());
+		}
+		return (getProgressBitmap() & Routine.getProgressBit(getStartEpochDay(), today)) != 0;
+	}
+
+}
@@ -0,0 +1,9 @@
+package com.balanceup.keum.repository;
+
+public interface RpFlushResult {
+
+	Long getClaimed();
+
+	String getUsername();
+
+}
@@ -0,0 +1,31 @@
+package com.balanceup.keum.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.balanceup.keum.domain.RpLedger;
+
+public interface RpLedgerRepository extends JpaRepository<RpLedger, Long> {
+
+	@Modifying
+	@Query(value = "INSERT INTO rp_ledger (user_id, routine_id, epoch_day, reward_type, amount, applied, create_at) "
+		+ "VALUES (:userId, :routineId, :epochDay, :rewardType, :amount, false, NOW()) "
+		+ "ON CONFLICT (routine_id, epoch_day, reward_type) DO NOTHING", nativeQuery = true)
+	int insertIfAbsent(@Param("userId") Long userId, @Param("routineId") Long routineId,
+		@Param("epochDay") long epochDay, @Param("rewardType") String rewardType, @Param("amount") int amount);
+
+	@Query(value = "WITH claimed AS (UPDATE rp_ledger SET applied = true WHERE id IN "
+		+ "(SELECT id FROM rp_ledger WHERE applied = false ORDER BY id LIMIT :batchSize FOR UPDATE SKIP LOCKED) "
+		+ "RETURNING user_id, amount), "
+		+ "totals AS (SELECT user_id, SUM(amount) AS amount FROM claimed GROUP BY user_id), "
+		+ "updated AS (UPDATE \"user\" u SET rp = COALESCE(u.rp, 0) + t.amount FROM totals t "
+		+ "WHERE u.id = t.user_id RETURNING u.username) "
+		+ "SELECT c.claimed AS claimed, updated.username AS username "
+		+ "FROM (SELECT COUNT(*) AS claimed FROM claimed) c LEFT JOIN updated ON true", nativeQuery = true)
+	List<RpFlushResult> applyPending(@Param("batchSize") int batchSize);
+
+}
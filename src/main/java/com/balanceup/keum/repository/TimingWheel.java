@@ -0,0 +1,125 @@
+package com.balanceup.keum.repository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+class TimingWheel {
+
+	private static final int SLOT_BITS = 6;
+	private static final int SLOTS = 1 << SLOT_BITS;
+	private static final int SLOT_MASK = SLOTS - 1;
+	private static final int LEVELS = 5;
+	private static final long MAX_DELAY_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+	private final long tickMs;
+	private final List<Set<Timeout>> buckets;
+	private long currentTick;
+	private int size;
+
+	TimingWheel(long tickMs, long startMs) {
+		this.tickMs = tickMs;
+		this.currentTick = startMs / tickMs;
+		this.buckets = new ArrayList<>(LEVELS * SLOTS);
+		for (int i = 0; i < LEVELS * SLOTS; i++) {
+			buckets.add(new HashSet<>());
+		}
+	}
+
+	synchronized Timeout schedule(String key, long expiresAtMs) {
+		long expireTick = Math.max((expiresAtMs + tickMs - 1) / tickMs, currentTick + 1);
+		Timeout timeout = new Timeout(key, expiresAtMs, expireTick);
+		add(timeout);
+		size++;
+		return timeout;
+	}
+
+	synchronized void cancel(Timeout timeout) {
+		if (timeout.bucket < 0) {
+			return;
+		}
+
+		buckets.get(timeout.bucket).remove(timeout);
+		timeout.bucket = -1;
+		size--;
+	}
+
+	synchronized int size() {
+		return size;
+	}
+
+	synchronized List<Timeout> advance(long nowMs) {
+		List<Timeout> expired = new ArrayList<>();
+		long targetTick = nowMs / tickMs;
+
+		while (currentTick < targetTick) {
+			currentTick++;
+			cascade();
+
+			Set<Timeout> bucket = takeBucket(0, (int)(currentTick & SLOT_MASK));
+			for (Timeout timeout : bucket) {
+				if (timeout.expireTick <= currentTick) {
+					timeout.bucket = -1;
+					size--;
+					expired.add(timeout);
+					continue;
+				}
+				add(timeout);
+			}
+		}
+		return expired;
+	}
+
+	private void cascade() {
+		for (int level = 1; level < LEVELS; level++) {
+			if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+				return;
+			}
+
+			int slot = (int)((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+			for (Timeout timeout : takeBucket(level, slot)) {
+				add(timeout);
+			}
+		}
+	}
+
+	private void add(Timeout timeout) {
+		long placementTick = Math.min(timeout.expireTick, currentTick + MAX_DELAY_TICKS);
+		long delay = placementTick - currentTick;
+
+		for (int level = 0; level < LEVELS; level++) {
+			if (delay < (1L << (SLOT_BITS * (level + 1)))) {
+				int slot = (int)((Math.max(placementTick, currentTick) >>> (SLOT_BITS * level)) & SLOT_MASK);
+				timeout.bucket = level * SLOTS + slot;
+				buckets.get(timeout.bucket).add(timeout);
+				return;
+			}
+		}
+	}
+
+	private Set<Timeout> takeBucket(int level, int slot) {
+		int index = level * SLOTS + slot;
+		Set<Timeout> bucket = buckets.get(index);
+		if (bucket.isEmpty()) {
+			return bucket;
+		}
+		buckets.set(index, new HashSet<>());
+		return bucket;
+	}
+
+	static final class Timeout {
+
+		final String key;
+		final long expiresAtMs;
+		final long expireTick;
+		private int bucket = -1;
+
+		private Timeout(String key, long expiresAtMs, long expireTick) {
+			this.key = key;
+			this.expiresAtMs = expiresAtMs;
+			this.expireTick = expireTick;
+		}
+	}
+
+}
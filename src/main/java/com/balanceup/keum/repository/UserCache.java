@@ -0,0 +1,126 @@
+package com.balanceup.keum.repository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.balanceup.keum.config.util.LruTtlCache;
+import com.balanceup.keum.domain.User;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Component
+public class UserCache implements MeterBinder {
+
+	public static final String INVALIDATION_TOPIC = "user-cache:invalidate";
+
+	@Value("${user.cache.enabled:false}")
+	private boolean enabled;
+
+	@Value("${user.cache.maximum-size:10000}")
+	private int maximumSize;
+
+	@Value("${user.cache.ttl-ms:60000}")
+	private long ttlMs;
+
+	private final UserRepository userRepository;
+	private final KeyValueStore keyValueStore;
+
+	private final Map<String, Object> pendingFills = new ConcurrentHashMap<>();
+
+	private LruTtlCache<String, User> users;
+
+	@PostConstruct
+	void init() {
+		users = new LruTtlCache<>(enabled ? maximumSize : 0, ttlMs);
+		keyValueStore.subscribe(INVALIDATION_TOPIC, this::evict);
+	}
+
+	public Optional<User> findByUsername(String username) {
+		if (!enabled) {
+			return userRepository.findByUsername(username);
+		}
+
+		User cached = users.get(username);
+		if (cached != null) {
+			return Optional.of(cached.copy());
+		}
+
+		return fill(username).map(User::copy);
+	}
+
+	public void invalidate(String username) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			publishInvalidation(username);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				publishInvalidation(username);
+			}
+		});
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("user.cache.requests", users, LruTtlCache::getHitCount)
+			.tag("result", "hit")
+			.register(registry);
+		FunctionCounter.builder("user.cache.requests", users, LruTtlCache::getMissCount)
+			.tag("result", "miss")
+			.register(registry);
+		FunctionCounter.builder("user.cache.evictions", users, LruTtlCache::getEvictionCount)
+			.register(registry);
+		Gauge.builder("user.cache.size", users, LruTtlCache::size)
+			.register(registry);
+	}
+
+	private Optional<User> fill(String username) {
+		Object marker = new Object();
+		pendingFills.put(username, marker);
+
+		Optional<User> user;
+		try {
+			user = userRepository.findByUsername(username);
+		} catch (RuntimeException e) {
+			pendingFills.remove(username, marker);
+			throw e;
+		}
+
+		if (user.isEmpty()) {
+			pendingFills.remove(username, marker);
+			return user;
+		}
+
+		users.put(username, user.get().copy());
+		if (!pendingFills.remove(username, marker)) {
+			users.invalidate(username);
+		}
+		return user;
+	}
+
+	private void publishInvalidation(String username) {
+		evict(username);
+		keyValueStore.publish(INVALIDATION_TOPIC, username);
+	}
+
+	private void evict(String username) {
+		pendingFills.remove(username);
+		users.invalidate(username);
+	}
+
+}
@@ -3,6 +3,9 @@ package com.balanceup.keum.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.balanceup.keum.domain.User;
 
@@ -11,4 +14,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
 	Optional<User> findByUsername(String username);
 	Optional<User> findByNickname(String nickname);
 
+	@Modifying
+	@Query("UPDATE User u SET u.routineCount = u.routineCount + 1 WHERE u.id = :id AND u.routineCount < :maximum")
+	int increaseRoutineCount(@Param("id") Long id, @Param("maximum") int maximum);
+
+	@Modifying
+	@Query("UPDATE User u SET u.routineCount = u.routineCount - 1 WHERE u.id = :id AND u.routineCount > 0")
+	int decreaseRoutineCount(@Param("id") Long id);
+
 }
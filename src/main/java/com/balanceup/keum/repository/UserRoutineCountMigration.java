@@ -0,0 +1,49 @@
+package com.balanceup.keum.repository;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "routine.migration.user-routine-count", havingValue = "true", matchIfMissing = true)
+public class UserRoutineCountMigration implements ApplicationRunner {
+
+	static final String MIGRATION_NAME = "user-routine-count";
+
+	private static final String BACKFILL = "UPDATE \"user\" u SET routine_count = t.routine_count "
+		+ "FROM (SELECT a.id, COALESCE(c.routine_count, 0) AS routine_count FROM \"user\" a "
+		+ "LEFT JOIN (SELECT user_id, COUNT(*) AS routine_count FROM routine GROUP BY user_id) c "
+		+ "ON c.user_id = a.id) t "
+		+ "WHERE u.id = t.id AND u.routine_count IS DISTINCT FROM t.routine_count";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final MigrationHistory migrationHistory;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (!migrationHistory.isPostgreSql()) {
+			log.info("{} 에서는 user.routine_count 보정을 건너뜁니다.", migrationHistory.getDatabase());
+			return;
+		}
+
+		migrationHistory.createIfAbsent();
+		transactionTemplate.executeWithoutResult(status -> {
+			if (!migrationHistory.markApplied(MIGRATION_NAME)) {
+				return;
+			}
+
+			int updated = jdbcTemplate.update(BACKFILL);
+			log.info("user.routine_count 를 {} 건 보정했습니다.", updated);
+		});
+	}
+
+}
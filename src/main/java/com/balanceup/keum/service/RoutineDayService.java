@@ -1,16 +1,15 @@
 package com.balanceup.keum.service;
 
-import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
+import java.time.LocalDate;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import com.balanceup.keum.domain.Day;
 import com.balanceup.keum.domain.Routine;
 import com.balanceup.keum.domain.RoutineDay;
 import com.balanceup.keum.repository.RoutineDayRepository;
+import com.balanceup.keum.repository.RoutineRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,54 +17,54 @@ import lombok.RequiredArgsConstructor;
 @Service
 public class RoutineDayService {
 
-	private final RoutineDayRepository routineDayRepository;
+	private static final String BITMAP_STORAGE = "bitmap";
 
-	@Transactional
-	public List<RoutineDay> makeRoutineDays() {
-		List<RoutineDay> routineDays = new ArrayList<>();
-		saveRoutineDay(routineDays);
-		return routineDays;
-	}
+	@Value("${routine.progress.storage:rows}")
+	private String progressStorage;
 
-	public void progressDailyRoutine(Routine routine) {
-		List<RoutineDay> routineDays = routine.getRoutineDays();
-		String today = new SimpleDateFormat("dd-MM-yyyy").format(new Date());
+	private final RoutineDayRepository routineDayRepository;
+	private final RoutineRepository routineRepository;
 
-		for (RoutineDay routineDay : routineDays) {
-			if (routineDay.isToday(today)) {
-				routineDay.progress();
-				break;
-			}
+	public void initializeProgress(Routine routine, LocalDate today) {
+		if (isBitmapStorage()) {
+			routine.startBitmapProgress(today);
+			return;
 		}
-	}
 
-	public boolean isComplete(Routine routine) {
-		List<RoutineDay> routineDays = routine.getRoutineDays();
-		int completeCount = 0;
-		int routineLength = routine.getDays().length();
-
-		for (int i = 0; i < 14; i++) {
-			RoutineDay routineDay = routineDays.get(i);
-			if (routineDay.isCompleted()) {
-				completeCount++;
-			}
+		for (int day = 0; day < Routine.ROUTINE_MAX_DAY; day++) {
+			routine.addRoutineDay(RoutineDay.makeRoutineDay(routine, today, day));
 		}
+		routine.recountProgress();
+	}
 
-		if (completeCount == routineLength * 2) {
+	public boolean progressToday(Long routineId, Long userId, LocalDate today) {
+		if (!isBitmapStorage() && progressRoutineDay(routineId, userId, today)) {
 			return true;
 		}
-		return false;
-	}
 
-	private void saveRoutineDay(List<RoutineDay> routineDays) {
-		Date today = new Date();
+		Routine routine = routineRepository.findByIdAndUser_Id(routineId, userId)
+			.orElseThrow(() -> new IllegalArgumentException(RoutineService.INVALID_ROUTINE_ID_MESSAGE));
 
-		for (int day = 0; day < 14; day++) {
-			RoutineDay routineDay = RoutineDay.makeRoutineDay(today, day);
-			routineDayRepository.save(routineDay);
-			routineDays.add(routineDay);
+		if (!routine.isBitmapProgress()) {
+			return isBitmapStorage() && progressRoutineDay(routineId, userId, today);
 		}
 
+		int bit = routine.getProgressBit(today);
+		return bit != 0
+			&& routineRepository.progressBitmap(routineId, userId, bit, routine.isScheduled(bit) ? 1 : 0) == 1;
+	}
+
+	private boolean progressRoutineDay(Long routineId, Long userId, LocalDate today) {
+		if (routineDayRepository.progress(routineId, userId, today.toEpochDay()) != 1) {
+			return false;
+		}
+
+		routineRepository.increaseCompletedCount(routineId, Day.of(today.getDayOfWeek()).getMask());
+		return true;
+	}
+
+	private boolean isBitmapStorage() {
+		return BITMAP_STORAGE.equals(progressStorage);
 	}
 
 }
@@ -1,7 +1,9 @@
 package com.balanceup.keum.service;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,9 +16,12 @@ import com.balanceup.keum.controller.dto.request.routine.RoutineProgressRequest;
 import com.balanceup.keum.controller.dto.request.routine.RoutineUpdateRequest;
 import com.balanceup.keum.controller.dto.response.routine.RoutineMakeResponse;
 import com.balanceup.keum.controller.dto.response.routine.RoutineResponse;
+import com.balanceup.keum.controller.dto.response.routine.RoutineSummaryResponse;
 import com.balanceup.keum.domain.Routine;
+import com.balanceup.keum.domain.RpRewardType;
 import com.balanceup.keum.domain.User;
 import com.balanceup.keum.repository.RoutineRepository;
+import com.balanceup.keum.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -29,66 +34,82 @@ public class RoutineService {
 
 	private final UserService userService;
 	private final RoutineDayService routineDayService;
+	private final RpService rpService;
 	private final RoutineRepository routineRepository;
+	private final UserRepository userRepository;
 
 	@Transactional
 	public RoutineMakeResponse makeRoutine(RoutineMakeRequest request) {
 		User user = userService.findUserByUsername(request.getUsername());
 
 		isValidMakeRequest(request);
-		isMaximumRoutine(user);
+		reserveRoutine(user);
 
-		Routine routine = routineRepository
-			.save(Routine.ofRoutineInfo(request, routineDayService.makeRoutineDays(), user));
+		Routine newRoutine = Routine.ofRoutineInfo(request, user);
+		routineDayService.initializeProgress(newRoutine, user.today());
+		Routine routine = routineRepository.save(newRoutine);
 
 		return RoutineMakeResponse.from(user.getUsername(), routine);
 	}
 
 	@Transactional
 	public RoutineResponse updateRoutine(RoutineUpdateRequest request) {
-		User user = userService.findUserByUsername(request.getUsername());
-		Routine routine = getRoutineByOptional(routineRepository.findById(request.getRoutineId()));
+		Routine routine = getRoutineByOptional(
+			routineRepository.findDetailByIdAndUser_Username(request.getRoutineId(), request.getUsername()));
 
 		isValidUpdateRequest(request);
 
 		routine.update(request);
 
-		return RoutineResponse.from(routine, user);
+		return RoutineResponse.from(routine, routine.getUser());
 	}
 
 	@Transactional(readOnly = true)
 	public RoutineResponse inquireRoutine(RoutineInquireRequest request) {
-		User user = userService.findUserByUsername(request.getUsername());
-		Optional<Routine> routineOptional = routineRepository.findById(request.getRoutineId());
+		Optional<Routine> routineOptional = routineRepository.findDetailByIdAndUser_Username(
+			request.getRoutineId(), request.getUsername());
 		Routine routine = getRoutineByOptional(routineOptional);
 
-		return RoutineResponse.from(routine, user);
+		return RoutineResponse.from(routine, routine.getUser());
+	}
+
+	@Transactional(readOnly = true)
+	public List<RoutineSummaryResponse> inquireRoutines(String username) {
+		User user = userService.findCachedUser(username);
+		LocalDate today = user.today();
+
+		return routineRepository.findAllSummariesByUserId(user.getId(), today.toEpochDay()).stream()
+			.map(summary -> RoutineSummaryResponse.from(summary, today))
+			.collect(Collectors.toList());
 	}
 
 	@Transactional
 	public void deleteRoutine(RoutineDeleteRequest request) {
-		userService.findUserByUsername(request.getUsername());
-		Routine routine = getRoutineByOptional(routineRepository.findById(request.getRoutineId()));
+		Routine routine = getRoutineByOptional(
+			routineRepository.findDetailByIdAndUser_Username(request.getRoutineId(), request.getUsername()));
 
 		routineRepository.delete(routine);
+		userRepository.decreaseRoutineCount(routine.getUser().getId());
 	}
 
 	@Transactional
 	public void progressRoutine(RoutineProgressRequest request) {
-		User user = userService.findUserByUsername(request.getUsername());
-		Routine routine = getRoutineByOptional(routineRepository.findById(request.getRoutineId()));
+		User user = userService.findCachedUser(request.getUsername());
+		LocalDate today = user.today();
 
-		routineDayService.progressDailyRoutine(routine);
-		user.earnRp(1);
+		if (routineDayService.progressToday(request.getRoutineId(), user.getId(), today)) {
+			rpService.award(user.getId(), request.getRoutineId(), today.toEpochDay(), RpRewardType.DAILY_PROGRESS);
+		}
 	}
 
-	@Transactional(readOnly = true)
+	@Transactional
 	public void allDoneRoutine(RoutineAllDoneRequest request) {
-		User user = userService.findUserByUsername(request.getUsername());
-		Routine routine = getRoutineByOptional(routineRepository.findById(request.getRoutineId()));
+		Routine routine = getRoutineByOptional(
+			routineRepository.findByIdAndUser_Username(request.getRoutineId(), request.getUsername()));
 
 		routine.isAllDone();
-		user.earnRp(20);
+		rpService.award(routine.getUser().getId(), routine.getId(), routine.getCreateEpochDay(),
+			RpRewardType.ALL_DONE);
 	}
 
 	private static void isValidUpdateRequest(RoutineUpdateRequest request) {
@@ -126,9 +147,8 @@ public class RoutineService {
 		return routineOptional.get();
 	}
 
-	private void isMaximumRoutine(User user) {
-		List<Routine> routineList = routineRepository.findAllByUser(user);
-		if (routineList.size() >= ROUTINE_MAXIMUM) {
+	private void reserveRoutine(User user) {
+		if (userRepository.increaseRoutineCount(user.getId(), ROUTINE_MAXIMUM) == 0) {
 			throw new IllegalStateException("루틴 갯수는 " + ROUTINE_MAXIMUM + "개를 초과할 수 없습니다.");
 		}
 	}
@@ -0,0 +1,63 @@
+package com.balanceup.keum.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.balanceup.keum.domain.RpRewardType;
+import com.balanceup.keum.domain.User;
+import com.balanceup.keum.repository.RpFlushResult;
+import com.balanceup.keum.repository.RpLedgerRepository;
+import com.balanceup.keum.repository.UserCache;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class RpService {
+
+	@Value("${rp.flush.batch-size:1000}")
+	private int flushBatchSize;
+
+	private final RpLedgerRepository rpLedgerRepository;
+	private final UserService userService;
+	private final UserCache userCache;
+	private final TransactionTemplate transactionTemplate;
+
+	@Transactional
+	public boolean award(Long userId, Long routineId, long epochDay, RpRewardType rewardType) {
+		return rpLedgerRepository.insertIfAbsent(userId, routineId, epochDay, rewardType.name(),
+			rewardType.getAmount()) == 1;
+	}
+
+	public int getRp(String username) {
+		User user = userService.findCachedUser(username);
+		return user.getRp() == null ? 0 : user.getRp();
+	}
+
+	@Scheduled(fixedDelayString = "${rp.flush.interval-ms:5000}")
+	public void flush() {
+		List<RpFlushResult> results;
+		do {
+			results = transactionTemplate.execute(status -> rpLedgerRepository.applyPending(flushBatchSize));
+			if (results == null) {
+				return;
+			}
+
+			for (RpFlushResult result : results) {
+				if (result.getUsername() != null) {
+					userCache.invalidate(result.getUsername());
+				}
+			}
+		} while (getClaimed(results) > 0);
+	}
+
+	private static long getClaimed(List<RpFlushResult> results) {
+		return results.isEmpty() || results.get(0).getClaimed() == null ? 0 : results.get(0).getClaimed();
+	}
+
+}
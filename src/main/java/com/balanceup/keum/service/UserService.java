@@ -15,10 +15,12 @@ import com.balanceup.keum.controller.dto.request.user.ReIssueRequest;
 import com.balanceup.keum.controller.dto.request.user.UserDeleteRequest;
 import com.balanceup.keum.controller.dto.request.user.UserNicknameDuplicateRequest;
 import com.balanceup.keum.controller.dto.request.user.UserNicknameUpdateRequest;
+import com.balanceup.keum.controller.dto.request.user.UserTimeZoneUpdateRequest;
 import com.balanceup.keum.controller.dto.response.user.UserDeleteResponse;
 import com.balanceup.keum.controller.dto.response.user.UserResponse;
 import com.balanceup.keum.domain.User;
-import com.balanceup.keum.repository.RedisRepository;
+import com.balanceup.keum.repository.RefreshTokenStore;
+import com.balanceup.keum.repository.UserCache;
 import com.balanceup.keum.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -31,7 +33,8 @@ public class UserService {
 
 	private final UserRepository userRepository;
 	private final JwtTokenUtil jwtTokenUtil;
-	private final RedisRepository redisRepository;
+	private final RefreshTokenStore refreshTokenStore;
+	private final UserCache userCache;
 
 	@Transactional
 	public UserResponse updateNickname(UserNicknameUpdateRequest dto, String username) {
@@ -43,9 +46,22 @@ public class UserService {
 
 		isValidNickname(nickname);
 
-		return UserResponse.from(userRepository.findByUsername(username)
+		User user = userRepository.findByUsername(username)
 			.orElseThrow(() -> new IllegalStateException("존재하지 않는 회원입니다."))
-			.updateUserNickname(nickname), dto.getToken());
+			.updateUserNickname(nickname);
+		userCache.invalidate(username);
+
+		return UserResponse.from(user, dto.getToken());
+	}
+
+	@Transactional
+	public String updateTimeZone(UserTimeZoneUpdateRequest request, String username) {
+		User user = userRepository.findByUsername(username)
+			.orElseThrow(() -> new IllegalStateException("존재하지 않는 회원입니다."))
+			.updateTimeZone(request.getTimeZone());
+		userCache.invalidate(username);
+
+		return user.getTimeZone();
 	}
 
 	@Transactional(readOnly = true)
@@ -60,24 +76,18 @@ public class UserService {
 	}
 
 	public TokenDto reIssue(ReIssueRequest request, UserDetails userDetails) {
-		if (!jwtTokenUtil.validateToken(request.getRefreshToken(), userDetails)) {
-			throw new IllegalStateException("Refresh 토큰이 만료되었습니다.");
-		}
-
 		String username = userDetails.getUsername();
-		String refreshTokenInRedis = redisRepository.getValues(username);
+		String refreshToken = refreshTokenStore.rotate(username, request.getRefreshToken());
 
-		if (refreshTokenInRedis == null || !isNormalRefreshToken(request, refreshTokenInRedis)) {
-			throw new IllegalStateException("만료되거나 존재하지 않는 RefreshToken 입니다. 다시 로그인을 시도해주세요");
-		}
-
-		return jwtTokenUtil.generateToken(username);
+		return new TokenDto(jwtTokenUtil.generateAccessToken(findCachedUser(username)), refreshToken);
 	}
 
 	@Transactional
 	public UserDeleteResponse delete(UserDeleteRequest request) {
 		User user = getUserByUsername(request.getUsername());
 		user.withdraw();
+		userCache.invalidate(user.getUsername());
+		refreshTokenStore.revokeAll(user.getUsername());
 		return UserDeleteResponse.from(user);
 	}
 
@@ -92,10 +102,6 @@ public class UserService {
 		return optionalUser.get();
 	}
 
-	private static boolean isNormalRefreshToken(ReIssueRequest dto, String refreshTokenInRedis) {
-		return refreshTokenInRedis.equals(dto.getRefreshToken());
-	}
-
 	private static void isValidNickname(String nickname) {
 		if (isNull(nickname)) {
 			throw new IllegalArgumentException("닉네임이 비어있습니다.");
@@ -116,5 +122,11 @@ public class UserService {
 			.orElseThrow(() -> new UsernameNotFoundException("존재하지 않는 username 입니다."));
 	}
 
+	public User findCachedUser(String username) {
+		return userCache
+			.findByUsername(username)
+			.orElseThrow(() -> new UsernameNotFoundException("존재하지 않는 username 입니다."));
+	}
+
 }
 
@@ -0,0 +1,68 @@
+package com.balanceup.keum.service.oauth;
+
+import java.util.Arrays;
+
+public class AdaptiveTimeout {
+
+	private static final int RECOMPUTE_INTERVAL = 10;
+
+	private final long[] samples;
+	private final int minimumSamples;
+	private final double percentile;
+	private final double multiplier;
+	private final long minTimeoutMs;
+	private final long maxTimeoutMs;
+
+	private int sampleIndex;
+	private int sampleCount;
+	private int recordedSinceRecompute;
+	private volatile long timeoutMs;
+
+	public AdaptiveTimeout(int windowSize, int minimumSamples, double percentile, double multiplier,
+		long minTimeoutMs, long maxTimeoutMs) {
+		this.samples = new long[windowSize];
+		this.minimumSamples = minimumSamples;
+		this.percentile = percentile;
+		this.multiplier = multiplier;
+		this.minTimeoutMs = minTimeoutMs;
+		this.maxTimeoutMs = maxTimeoutMs;
+		this.timeoutMs = maxTimeoutMs;
+	}
+
+	public long getTimeoutMs() {
+		return timeoutMs;
+	}
+
+	public long getMaxTimeoutMs() {
+		return maxTimeoutMs;
+	}
+
+	public void recordTimeout() {
+		record(maxTimeoutMs);
+	}
+
+	public synchronized void reset() {
+		sampleIndex = 0;
+		sampleCount = 0;
+		recordedSinceRecompute = 0;
+		timeoutMs = maxTimeoutMs;
+	}
+
+	public synchronized void record(long latencyMs) {
+		samples[sampleIndex] = latencyMs;
+		sampleIndex = (sampleIndex + 1) % samples.length;
+		sampleCount = Math.min(sampleCount + 1, samples.length);
+
+		if (sampleCount < minimumSamples || ++recordedSinceRecompute < RECOMPUTE_INTERVAL) {
+			return;
+		}
+
+		recordedSinceRecompute = 0;
+		long[] sorted = Arrays.copyOf(samples, sampleCount);
+		Arrays.sort(sorted);
+		int rank = (int)Math.ceil(percentile * sampleCount) - 1;
+		long observed = sorted[Math.max(0, Math.min(sampleCount - 1, rank))];
+		timeoutMs = Math.max(minTimeoutMs, Math.min(maxTimeoutMs, (long)(observed * multiplier)));
+	}
+
+}
@@ -0,0 +1,145 @@
+package com.balanceup.keum.service.oauth;
+
+import java.util.function.LongSupplier;
+
+public class CircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private static final byte FAILURE = 1;
+	private static final byte SLOW = 2;
+
+	private final int minimumCalls;
+	private final float failureRateThreshold;
+	private final float slowCallRateThreshold;
+	private final long slowCallDurationMs;
+	private final long openDurationMs;
+	private final int permittedHalfOpenCalls;
+	private final LongSupplier clock;
+
+	private final byte[] window;
+	private int windowIndex;
+	private int windowCalls;
+	private int windowFailures;
+	private int windowSlowCalls;
+
+	private int halfOpenAttempts;
+	private int halfOpenCalls;
+	private int halfOpenFailures;
+	private int halfOpenSlowCalls;
+
+	private State state = State.CLOSED;
+	private long openedAtMs;
+
+	public CircuitBreaker(int windowSize, int minimumCalls, float failureRateThreshold, float slowCallRateThreshold,
+		long slowCallDurationMs, long openDurationMs, int permittedHalfOpenCalls, LongSupplier clock) {
+		this.window = new byte[windowSize];
+		this.minimumCalls = minimumCalls;
+		this.failureRateThreshold = failureRateThreshold;
+		this.slowCallRateThreshold = slowCallRateThreshold;
+		this.slowCallDurationMs = slowCallDurationMs;
+		this.openDurationMs = openDurationMs;
+		this.permittedHalfOpenCalls = permittedHalfOpenCalls;
+		this.clock = clock;
+	}
+
+	public synchronized boolean tryAcquire() {
+		if (state == State.OPEN && clock.getAsLong() - openedAtMs >= openDurationMs) {
+			transitionTo(State.HALF_OPEN);
+		}
+
+		if (state == State.CLOSED) {
+			return true;
+		}
+
+		if (state == State.HALF_OPEN && halfOpenAttempts < permittedHalfOpenCalls) {
+			halfOpenAttempts++;
+			return true;
+		}
+		return false;
+	}
+
+	public synchronized void release() {
+		if (state == State.HALF_OPEN && halfOpenAttempts > 0) {
+			halfOpenAttempts--;
+		}
+	}
+
+	public void onSuccess(long durationMs) {
+		record(durationMs, false);
+	}
+
+	public void onFailure(long durationMs) {
+		record(durationMs, true);
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	private synchronized void record(long durationMs, boolean failure) {
+		byte outcome = (byte)((failure ? FAILURE : 0) | (durationMs >= slowCallDurationMs ? SLOW : 0));
+
+		if (state == State.HALF_OPEN) {
+			recordHalfOpen(outcome);
+			return;
+		}
+
+		if (state == State.CLOSED) {
+			recordClosed(outcome);
+		}
+	}
+
+	private void recordClosed(byte outcome) {
+		if (windowCalls == window.length) {
+			byte evicted = window[windowIndex];
+			windowFailures -= evicted & FAILURE;
+			windowSlowCalls -= (evicted & SLOW) >> 1;
+		} else {
+			windowCalls++;
+		}
+
+		window[windowIndex] = outcome;
+		windowIndex = (windowIndex + 1) % window.length;
+		windowFailures += outcome & FAILURE;
+		windowSlowCalls += (outcome & SLOW) >> 1;
+
+		if (windowCalls >= minimumCalls && exceedsThreshold(windowCalls, windowFailures, windowSlowCalls)) {
+			transitionTo(State.OPEN);
+		}
+	}
+
+	private void recordHalfOpen(byte outcome) {
+		halfOpenCalls++;
+		halfOpenFailures += outcome & FAILURE;
+		halfOpenSlowCalls += (outcome & SLOW) >> 1;
+
+		if (halfOpenCalls < permittedHalfOpenCalls) {
+			return;
+		}
+		transitionTo(exceedsThreshold(halfOpenCalls, halfOpenFailures, halfOpenSlowCalls) ? State.OPEN : State.CLOSED);
+	}
+
+	private boolean exceedsThreshold(int calls, int failures, int slowCalls) {
+		return failures * 100f / calls >= failureRateThreshold || slowCalls * 100f / calls >= slowCallRateThreshold;
+	}
+
+	private void transitionTo(State next) {
+		state = next;
+		windowIndex = 0;
+		windowCalls = 0;
+		windowFailures = 0;
+		windowSlowCalls = 0;
+		halfOpenAttempts = 0;
+		halfOpenCalls = 0;
+		halfOpenFailures = 0;
+		halfOpenSlowCalls = 0;
+
+		if (next == State.OPEN) {
+			openedAtMs = clock.getAsLong();
+		}
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.balanceup.keum.service.oauth;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.security.Key;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.web.client.RestTemplate;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+
+public class IdTokenVerifier {
+
+	private static final long MIN_JWKS_REFRESH_INTERVAL_MS = 60 * 1000L;
+	private static final long ALLOWED_CLOCK_SKEW_SECONDS = 60;
+
+	private final JwksKeySet keySet;
+	private final Set<String> issuers;
+	private final JwtParser jwtParser;
+
+	public IdTokenVerifier(JwksKeySet keySet, Set<String> issuers, String audience, long allowedClockSkewSeconds) {
+		this.keySet = keySet;
+		this.issuers = issuers;
+		this.jwtParser = Jwts.parserBuilder()
+			.setSigningKeyResolver(new SigningKeyResolverAdapter() {
+				@Override
+				@SuppressWarnings("rawtypes")
+				public Key resolveSigningKey(JwsHeader header, Claims claims) {
+					return keySet.getKey(header.getKeyId());
+				}
+			})
+			.requireAudience(audience)
+			.setAllowedClockSkewSeconds(allowedClockSkewSeconds)
+			.build();
+	}
+
+	public static Optional<IdTokenVerifier> of(RestTemplate restTemplate, ResourceLoader resourceLoader,
+		String jwksLocation, String issuers, String audience) {
+		if (audience == null || audience.isBlank()) {
+			return Optional.empty();
+		}
+
+		JwksKeySet keySet = new JwksKeySet(jwksSource(restTemplate, resourceLoader, jwksLocation),
+			MIN_JWKS_REFRESH_INTERVAL_MS);
+		return Optional.of(new IdTokenVerifier(keySet, Set.of(issuers.split(",")), audience,
+			ALLOWED_CLOCK_SKEW_SECONDS));
+	}
+
+	public OAuthUserInfo verify(String idToken) {
+		Claims claims;
+		try {
+			claims = jwtParser.parseClaimsJws(idToken).getBody();
+		} catch (JwtException e) {
+			throw new IllegalStateException("유효하지 않은 ID 토큰입니다.", e);
+		}
+
+		if (!issuers.contains(claims.getIssuer())) {
+			throw new IllegalStateException("ID 토큰의 발급자가 올바르지 않습니다.");
+		}
+
+		if (claims.getExpiration() == null) {
+			throw new IllegalStateException("만료 시간이 없는 ID 토큰입니다.");
+		}
+
+		String email = claims.get("email", String.class);
+		if (email == null || claims.getSubject() == null) {
+			throw new IllegalStateException("ID 토큰에 email 또는 subject 가 없습니다.");
+		}
+
+		return OAuthUserInfo.of(email, claims.getSubject());
+	}
+
+	public void refreshKeys() {
+		keySet.refresh();
+	}
+
+	private static Supplier<byte[]> jwksSource(RestTemplate restTemplate, ResourceLoader resourceLoader,
+		String jwksLocation) {
+		if (jwksLocation.startsWith("http://") || jwksLocation.startsWith("https://")) {
+			URI uri = URI.create(jwksLocation);
+			return () -> restTemplate.getForObject(uri, byte[].class);
+		}
+
+		Resource resource = resourceLoader.getResource(jwksLocation);
+		return () -> {
+			try (InputStream inputStream = resource.getInputStream()) {
+				return inputStream.readAllBytes();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		};
+	}
+
+}
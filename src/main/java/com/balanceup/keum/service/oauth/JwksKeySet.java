@@ -0,0 +1,116 @@
+package com.balanceup.keum.service.oauth;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class JwksKeySet {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	private static final String UNKNOWN_KEY_MESSAGE = "알 수 없는 ID 토큰 서명 키입니다.";
+
+	private final Supplier<byte[]> source;
+	private final long minRefreshIntervalMs;
+	private final AtomicReference<CompletableFuture<Void>> inFlight = new AtomicReference<>();
+
+	private volatile Map<String, PublicKey> keys = Map.of();
+	private volatile long refreshedAtMs;
+
+	public JwksKeySet(Supplier<byte[]> source, long minRefreshIntervalMs) {
+		this.source = source;
+		this.minRefreshIntervalMs = minRefreshIntervalMs;
+	}
+
+	public PublicKey getKey(String keyId) {
+		if (keyId == null) {
+			throw new IllegalStateException(UNKNOWN_KEY_MESSAGE);
+		}
+
+		PublicKey key = keys.get(keyId);
+		if (key != null) {
+			return key;
+		}
+
+		if (System.currentTimeMillis() - refreshedAtMs >= minRefreshIntervalMs) {
+			refresh();
+		}
+
+		key = keys.get(keyId);
+		if (key == null) {
+			throw new IllegalStateException(UNKNOWN_KEY_MESSAGE);
+		}
+		return key;
+	}
+
+	public void refresh() {
+		CompletableFuture<Void> refresh = new CompletableFuture<>();
+		CompletableFuture<Void> running = inFlight.compareAndExchange(null, refresh);
+		if (running != null) {
+			await(running);
+			return;
+		}
+
+		try {
+			refreshedAtMs = System.currentTimeMillis();
+			keys = parse(fetch());
+			refresh.complete(null);
+		} catch (RuntimeException e) {
+			refresh.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.set(null);
+		}
+	}
+
+	private JsonNode fetch() {
+		try {
+			return OBJECT_MAPPER.readTree(source.get());
+		} catch (IOException | RuntimeException e) {
+			throw new IllegalStateException("JWKS 를 불러오지 못했습니다.", e);
+		}
+	}
+
+	private static void await(CompletableFuture<Void> running) {
+		try {
+			running.join();
+		} catch (CompletionException e) {
+			throw (RuntimeException)e.getCause();
+		}
+	}
+
+	private static Map<String, PublicKey> parse(JsonNode jwks) {
+		Map<String, PublicKey> parsed = new HashMap<>();
+		for (JsonNode jwk : jwks.path("keys")) {
+			if (!"RSA".equals(jwk.path("kty").asText()) || !jwk.hasNonNull("kid")) {
+				continue;
+			}
+			parsed.put(jwk.get("kid").asText(), toRsaPublicKey(jwk));
+		}
+		return Map.copyOf(parsed);
+	}
+
+	private static PublicKey toRsaPublicKey(JsonNode jwk) {
+		Base64.Decoder decoder = Base64.getUrlDecoder();
+		BigInteger modulus = new BigInteger(1, decoder.decode(jwk.path("n").asText()));
+		BigInteger exponent = new BigInteger(1, decoder.decode(jwk.path("e").asText()));
+		try {
+			return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("JWKS 의 RSA 키가 올바르지 않습니다.", e);
+		}
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.balanceup.keum.service.oauth;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Component
+public class KakaoOAuthProvider implements OAuthProvider {
+
+	private static final OAuthProfileDecoder PROFILE_DECODER = new OAuthProfileDecoder(
+		new String[] {"kakao_account", "email"}, new String[] {"id"});
+	private static final String USER_INFO_URI = "https://kapi.kakao.com/v2/user/me";
+
+	@Value("${oauth.kakao.client-id:}")
+	private String clientId;
+
+	@Value("${oauth.kakao.jwks-uri:https://kauth.kakao.com/.well-known/jwks.json}")
+	private String jwksUri;
+
+	@Value("${oauth.kakao.issuers:https://kauth.kakao.com}")
+	private String issuers;
+
+	private final RestTemplate restTemplate;
+	private final ResourceLoader resourceLoader;
+
+	private Optional<IdTokenVerifier> idTokenVerifier;
+
+	@PostConstruct
+	void init() {
+		idTokenVerifier = IdTokenVerifier.of(restTemplate, resourceLoader, jwksUri, issuers, clientId);
+	}
+
+	@Override
+	public String getName() {
+		return "kakao";
+	}
+
+	@Override
+	public Duration getCredentialTtl() {
+		return Duration.ofMinutes(30);
+	}
+
+	@Override
+	public Optional<IdTokenVerifier> getIdTokenVerifier() {
+		return idTokenVerifier;
+	}
+
+	@Override
+	public OAuthUserInfo fetchUserInfo(String accessToken) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("Content-type", MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+		headers.add(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+
+		byte[] body = restTemplate.postForEntity(USER_INFO_URI, new HttpEntity<>(null, headers), byte[].class)
+			.getBody();
+
+		return PROFILE_DECODER.decode(Objects.requireNonNull(body));
+	}
+
+}
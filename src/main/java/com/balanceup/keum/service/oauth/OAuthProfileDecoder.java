@@ -0,0 +1,78 @@
+package com.balanceup.keum.service.oauth;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+public class OAuthProfileDecoder {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private static final int USERNAME = 0;
+	private static final int PROVIDER_ID = 1;
+
+	private final String[] usernamePath;
+	private final String[] providerIdPath;
+
+	public OAuthProfileDecoder(String[] usernamePath, String[] providerIdPath) {
+		this.usernamePath = usernamePath;
+		this.providerIdPath = providerIdPath;
+	}
+
+	public OAuthUserInfo decode(byte[] body) {
+		String[] found = new String[2];
+
+		try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IllegalStateException("제공자 응답이 JSON 객체가 아닙니다.");
+			}
+			decodeObject(parser, 0, true, true, found);
+		} catch (IOException e) {
+			throw new IllegalStateException("제공자 응답을 읽을 수 없습니다.", e);
+		}
+
+		if (found[USERNAME] == null || found[PROVIDER_ID] == null) {
+			throw new IllegalStateException("제공자 응답에 email 또는 id 가 없습니다.");
+		}
+		return OAuthUserInfo.of(found[USERNAME], found[PROVIDER_ID]);
+	}
+
+	private void decodeObject(JsonParser parser, int depth, boolean onUsernamePath, boolean onProviderIdPath,
+		String[] found) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String name = parser.getCurrentName();
+			boolean usernameMatch = onUsernamePath && matches(usernamePath, depth, name);
+			boolean providerIdMatch = onProviderIdPath && matches(providerIdPath, depth, name);
+			JsonToken value = parser.nextToken();
+
+			if (value == JsonToken.START_OBJECT && (usernameMatch || providerIdMatch)) {
+				decodeObject(parser, depth + 1, usernameMatch, providerIdMatch, found);
+			} else if (isScalar(value) && isLeaf(usernamePath, depth, usernameMatch)) {
+				found[USERNAME] = parser.getText();
+			} else if (isScalar(value) && isLeaf(providerIdPath, depth, providerIdMatch)) {
+				found[PROVIDER_ID] = parser.getText();
+			} else {
+				parser.skipChildren();
+			}
+
+			if (found[USERNAME] != null && found[PROVIDER_ID] != null) {
+				return;
+			}
+		}
+	}
+
+	private static boolean isScalar(JsonToken value) {
+		return value.isScalarValue() && value != JsonToken.VALUE_NULL;
+	}
+
+	private static boolean matches(String[] path, int depth, String name) {
+		return depth < path.length && path[depth].equals(name);
+	}
+
+	private static boolean isLeaf(String[] path, int depth, boolean match) {
+		return match && depth == path.length - 1;
+	}
+
+}
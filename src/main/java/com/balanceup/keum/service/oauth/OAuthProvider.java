@@ -0,0 +1,16 @@
+package com.balanceup.keum.service.oauth;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface OAuthProvider {
+
+	String getName();
+
+	Duration getCredentialTtl();
+
+	OAuthUserInfo fetchUserInfo(String accessToken);
+
+	Optional<IdTokenVerifier> getIdTokenVerifier();
+
+}
@@ -0,0 +1,158 @@
+package com.balanceup.keum.service.oauth;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.balanceup.keum.config.util.JwtTokenUtil;
+import com.balanceup.keum.config.util.SocialCredentialEncoder;
+import com.balanceup.keum.controller.dto.TokenDto;
+import com.balanceup.keum.domain.User;
+import com.balanceup.keum.repository.KeyNamespace;
+import com.balanceup.keum.repository.KeyValueStore;
+import com.balanceup.keum.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class OAuthService {
+
+	private final Map<String, OAuthProvider> providers;
+	private final UserRepository userRepository;
+	private final JwtTokenUtil jwtTokenUtil;
+	private final KeyValueStore keyValueStore;
+	private final SocialCredentialEncoder credentialEncoder;
+	private final TransactionTemplate transactionTemplate;
+	private final Executor oauthExecutor;
+	private final ProviderCallGuards providerCallGuards;
+
+	public OAuthService(List<OAuthProvider> providers, UserRepository userRepository, JwtTokenUtil jwtTokenUtil,
+		KeyValueStore keyValueStore, SocialCredentialEncoder credentialEncoder, TransactionTemplate transactionTemplate,
+		@Qualifier("oauthExecutor") Executor oauthExecutor, ProviderCallGuards providerCallGuards) {
+		this.providers = providers.stream().collect(Collectors.toMap(OAuthProvider::getName, Function.identity()));
+		this.userRepository = userRepository;
+		this.jwtTokenUtil = jwtTokenUtil;
+		this.keyValueStore = keyValueStore;
+		this.credentialEncoder = credentialEncoder;
+		this.transactionTemplate = transactionTemplate;
+		this.oauthExecutor = oauthExecutor;
+		this.providerCallGuards = providerCallGuards;
+	}
+
+	public CompletableFuture<Map<String, String>> getUserInfo(String providerName, String accessToken) {
+		OAuthProvider provider = getProvider(providerName);
+
+		return providerCallGuards.get(provider.getName())
+			.call(() -> provider.fetchUserInfo(accessToken), oauthExecutor)
+			.thenApply(userInfo -> storeCredential(provider, userInfo));
+	}
+
+	public Map<String, String> getUserInfoByIdToken(String providerName, String idToken) {
+		OAuthProvider provider = getProvider(providerName);
+		IdTokenVerifier idTokenVerifier = provider.getIdTokenVerifier()
+			.orElseThrow(() -> new IllegalStateException("ID 토큰 로그인이 설정되지 않은 제공자입니다."));
+
+		return storeCredential(provider, idTokenVerifier.verify(idToken));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUpIdTokenKeys() {
+		refreshIdTokenKeys();
+	}
+
+	@Scheduled(fixedDelayString = "${oauth.jwks.refresh-ms:3600000}",
+		initialDelayString = "${oauth.jwks.refresh-ms:3600000}")
+	public void refreshIdTokenKeys() {
+		for (OAuthProvider provider : providers.values()) {
+			provider.getIdTokenVerifier().ifPresent(idTokenVerifier -> {
+				try {
+					idTokenVerifier.refreshKeys();
+				} catch (IllegalStateException e) {
+					log.warn("{} JWKS 갱신 실패", provider.getName(), e);
+				}
+			});
+		}
+	}
+
+	public CompletableFuture<Map<String, String>> join(String providerName, String username, String nickname) {
+		OAuthProvider provider = getProvider(providerName);
+		String subject = getStoredCredential(provider.getName(), username);
+
+		return credentialEncoder.encode(provider.getName(), subject)
+			.thenApplyAsync(encodePassword -> transactionTemplate.execute(status -> makeTokens(
+				userRepository.save(User.of(username, encodePassword, nickname, provider.getName())))), oauthExecutor);
+	}
+
+	@Transactional(readOnly = true)
+	public Map<String, String> login(String providerName, String username) {
+		getProvider(providerName);
+		User user = userRepository.findByUsername(username)
+			.orElseThrow(() -> new UsernameNotFoundException("존재하지 않는 username 입니다."));
+
+		return makeTokens(user);
+	}
+
+	private OAuthProvider getProvider(String providerName) {
+		OAuthProvider provider = providers.get(providerName);
+		if (provider == null) {
+			throw new IllegalArgumentException("지원하지 않는 로그인 제공자입니다.");
+		}
+		return provider;
+	}
+
+	private Map<String, String> storeCredential(OAuthProvider provider, OAuthUserInfo userInfo) {
+		keyValueStore.setValues(KeyNamespace.OAUTH_CREDENTIAL.key(provider.getName(), userInfo.getUsername()),
+			userInfo.getProviderId(), provider.getCredentialTtl());
+		return getLoginState(provider.getName(), userInfo.getUsername());
+	}
+
+	private Map<String, String> getLoginState(String providerName, String username) {
+		Map<String, String> state = new ConcurrentHashMap<>();
+
+		state.put("username", username);
+		state.put("provider", providerName);
+
+		if (userRepository.findByUsername(username).isPresent()) {
+			state.put("login", "sign-in");
+			return state;
+		}
+
+		state.put("login", "sign-up");
+		return state;
+	}
+
+	private String getStoredCredential(String providerName, String username) {
+		String rawPassword = keyValueStore.getValues(KeyNamespace.OAUTH_CREDENTIAL.key(providerName, username));
+
+		if (rawPassword == null) {
+			throw new IllegalStateException("Password is expire in Redis");
+		}
+
+		return rawPassword;
+	}
+
+	private Map<String, String> makeTokens(User user) {
+		Map<String, String> tokens = new ConcurrentHashMap<>();
+		TokenDto token = jwtTokenUtil.generateToken(user);
+
+		tokens.put("accessToken", token.getToken());
+		tokens.put("refreshToken", token.getRefreshToken());
+
+		return tokens;
+	}
+
+}
@@ -0,0 +1,13 @@
+package com.balanceup.keum.service.oauth;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(staticName = "of")
+public class OAuthUserInfo {
+
+	private final String username;
+	private final String providerId;
+
+}
@@ -0,0 +1,94 @@
+package com.balanceup.keum.service.oauth;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.balanceup.keum.config.util.ReadTimeoutContext;
+
+public class ProviderCallGuard {
+
+	private final String provider;
+	private final CircuitBreaker circuitBreaker;
+	private final AdaptiveTimeout adaptiveTimeout;
+
+	public ProviderCallGuard(String provider, CircuitBreaker circuitBreaker, AdaptiveTimeout adaptiveTimeout) {
+		this.provider = provider;
+		this.circuitBreaker = circuitBreaker;
+		this.adaptiveTimeout = adaptiveTimeout;
+	}
+
+	public <T> CompletableFuture<T> call(Supplier<T> supplier, Executor executor) {
+		if (!circuitBreaker.tryAcquire()) {
+			return CompletableFuture.failedFuture(
+				new ProviderUnavailableException(provider + " 로그인 제공자가 일시적으로 응답하지 않습니다."));
+		}
+
+		long timeoutMs = circuitBreaker.getState() == CircuitBreaker.State.CLOSED
+			? adaptiveTimeout.getTimeoutMs() : adaptiveTimeout.getMaxTimeoutMs();
+		long startedAt = System.nanoTime();
+		CompletableFuture<T> future;
+		try {
+			future = CompletableFuture.supplyAsync(ReadTimeoutContext.with(timeoutMs, supplier), executor);
+		} catch (RejectedExecutionException e) {
+			circuitBreaker.release();
+			return CompletableFuture.failedFuture(
+				new ProviderUnavailableException(provider + " 로그인 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", e));
+		}
+
+		return future.orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+			.handle((result, throwable) -> {
+				long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+				Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+
+				if (cause == null) {
+					adaptiveTimeout.record(elapsedMs);
+					circuitBreaker.onSuccess(elapsedMs);
+					return result;
+				}
+
+				if (!isProviderFailure(cause)) {
+					circuitBreaker.onSuccess(elapsedMs);
+					throw cause instanceof RuntimeException ? (RuntimeException)cause : new CompletionException(cause);
+				}
+
+				if (isTimeout(cause)) {
+					adaptiveTimeout.recordTimeout();
+				} else {
+					adaptiveTimeout.record(elapsedMs);
+				}
+				circuitBreaker.onFailure(elapsedMs);
+				if (circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+					adaptiveTimeout.reset();
+				}
+				throw new ProviderUnavailableException(provider + " 로그인 제공자가 응답하지 않습니다.", cause);
+			});
+	}
+
+	public CircuitBreaker getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	public AdaptiveTimeout getAdaptiveTimeout() {
+		return adaptiveTimeout;
+	}
+
+	private static boolean isProviderFailure(Throwable cause) {
+		return cause instanceof TimeoutException
+			|| cause instanceof ResourceAccessException
+			|| cause instanceof HttpServerErrorException;
+	}
+
+	private static boolean isTimeout(Throwable cause) {
+		return cause instanceof TimeoutException || cause.getCause() instanceof SocketTimeoutException;
+	}
+
+}
@@ -0,0 +1,75 @@
+package com.balanceup.keum.service.oauth;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Component
+public class ProviderCallGuards {
+
+	@Value("${oauth.circuit.window-size:50}")
+	private int windowSize;
+
+	@Value("${oauth.circuit.minimum-calls:10}")
+	private int minimumCalls;
+
+	@Value("${oauth.circuit.failure-rate-threshold:50}")
+	private float failureRateThreshold;
+
+	@Value("${oauth.circuit.slow-call-rate-threshold:80}")
+	private float slowCallRateThreshold;
+
+	@Value("${oauth.circuit.slow-call-ms:2000}")
+	private long slowCallDurationMs;
+
+	@Value("${oauth.circuit.open-ms:30000}")
+	private long openDurationMs;
+
+	@Value("${oauth.circuit.half-open-calls:3}")
+	private int permittedHalfOpenCalls;
+
+	@Value("${oauth.timeout.percentile:0.99}")
+	private double timeoutPercentile;
+
+	@Value("${oauth.timeout.multiplier:1.5}")
+	private double timeoutMultiplier;
+
+	@Value("${oauth.timeout.min-ms:300}")
+	private long minTimeoutMs;
+
+	@Value("${http.client.read-timeout-ms:3000}")
+	private long maxTimeoutMs;
+
+	private final MeterRegistry meterRegistry;
+	private final Map<String, ProviderCallGuard> guards = new ConcurrentHashMap<>();
+
+	public ProviderCallGuard get(String provider) {
+		return guards.computeIfAbsent(provider, this::create);
+	}
+
+	private ProviderCallGuard create(String provider) {
+		ProviderCallGuard guard = new ProviderCallGuard(provider,
+			new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold, slowCallRateThreshold,
+				slowCallDurationMs, openDurationMs, permittedHalfOpenCalls, System::currentTimeMillis),
+			new AdaptiveTimeout(windowSize, minimumCalls, timeoutPercentile, timeoutMultiplier,
+				minTimeoutMs, maxTimeoutMs));
+
+		Gauge.builder("oauth.circuit.state", guard, g -> g.getCircuitBreaker().getState().ordinal())
+			.tag("provider", provider)
+			.description("0=closed, 1=open, 2=half-open")
+			.register(meterRegistry);
+		Gauge.builder("oauth.timeout", guard, g -> g.getAdaptiveTimeout().getTimeoutMs())
+			.tag("provider", provider)
+			.baseUnit("milliseconds")
+			.register(meterRegistry);
+		return guard;
+	}
+
+}
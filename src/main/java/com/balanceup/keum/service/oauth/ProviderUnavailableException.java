@@ -0,0 +1,15 @@
+package com.balanceup.keum.service.oauth;
+
+public class ProviderUnavailableException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public ProviderUnavailableException(String message) {
+		super(message);
+	}
+
+	public ProviderUnavailableException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+}
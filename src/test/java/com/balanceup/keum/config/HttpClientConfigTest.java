@@ -0,0 +1,77 @@
+package com.balanceup.keum.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.balanceup.keum.config.util.ReadTimeoutContext;
+import com.sun.net.httpserver.HttpServer;
+
+public class HttpClientConfigTest {
+
+	private HttpServer server;
+	private HttpComponentsClientHttpRequestFactory requestFactory;
+	private RestTemplate restTemplate;
+	private String url;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/slow", exchange -> {
+			try {
+				Thread.sleep(2000);
+				exchange.sendResponseHeaders(200, -1);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				exchange.close();
+			}
+		});
+		server.start();
+		url = "http://localhost:" + server.getAddress().getPort() + "/slow";
+
+		HttpClientConfig httpClientConfig = new HttpClientConfig();
+		ReflectionTestUtils.setField(httpClientConfig, "poolMaxTotal", 10);
+		ReflectionTestUtils.setField(httpClientConfig, "poolMaxPerRoute", 10);
+		ReflectionTestUtils.setField(httpClientConfig, "poolIdleTimeoutMs", 30000L);
+		ReflectionTestUtils.setField(httpClientConfig, "keepAliveMs", 30000L);
+		ReflectionTestUtils.setField(httpClientConfig, "connectTimeoutMs", 1000);
+		ReflectionTestUtils.setField(httpClientConfig, "readTimeoutMs", 5000);
+		ReflectionTestUtils.setField(httpClientConfig, "connectionRequestTimeoutMs", 500);
+		requestFactory = httpClientConfig.requestFactory();
+		restTemplate = new RestTemplate(requestFactory);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		requestFactory.destroy();
+		server.stop(0);
+	}
+
+	@DisplayName("HTTP 클라이언트 테스트 - 요청별 읽기 타임아웃이 지나면 블로킹 호출을 끊음")
+	@Test
+	void given_ReadTimeoutContext_when_SlowResponse_then_AbortRequest() {
+		//given
+		long startedAt = System.nanoTime();
+
+		//when
+		ResourceAccessException e = assertThrows(ResourceAccessException.class,
+			() -> ReadTimeoutContext.with(200, () -> restTemplate.getForObject(url, String.class)).get());
+
+		//then
+		assertInstanceOf(SocketTimeoutException.class, e.getCause());
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 1500);
+	}
+
+}
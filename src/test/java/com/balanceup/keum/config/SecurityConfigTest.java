@@ -0,0 +1,156 @@
+package com.balanceup.keum.config;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.balanceup.keum.config.auth.PrincipalDetailService;
+import com.balanceup.keum.config.auth.PrincipalDetails;
+import com.balanceup.keum.config.filter.CustomAccessDeniedHandler;
+import com.balanceup.keum.config.util.JwtTokenUtil;
+import com.balanceup.keum.config.util.VerifiedToken;
+import com.balanceup.keum.controller.UserController;
+import com.balanceup.keum.domain.User;
+import com.balanceup.keum.service.RpService;
+import com.balanceup.keum.service.UserService;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@WebMvcTest(controllers = UserController.class)
+@Import({SecurityConfig.class, CorsConfig.class, SecurityConfigTest.MeterRegistryConfig.class})
+public class SecurityConfigTest {
+
+	private static final String BEARER_TOKEN = "Bearer access-token";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockBean
+	private JwtTokenUtil jwtTokenUtil;
+
+	@MockBean
+	private PrincipalDetailService principalDetailService;
+
+	@MockBean
+	private CustomAccessDeniedHandler customAccessDeniedHandler;
+
+	@MockBean
+	private UserService userService;
+
+	@MockBean
+	private RpService rpService;
+
+	@DisplayName("[Security] 공개 경로 테스트 - /user/nickname 중복확인은 토큰이 있어도 JwtFilter 를 거치지 않음")
+	@Test
+	void given_PublicPath_when_RequestWithToken_then_SkipJwtFilter() throws Exception {
+		//when & then
+		mockMvc.perform(post("/user/nickname")
+				.header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"nickname\":\"nickname\"}"))
+			.andExpect(status().isOk());
+
+		verify(jwtTokenUtil, never()).verify(anyString());
+		verify(principalDetailService, never()).loadUserByUsername(anyString());
+	}
+
+	@DisplayName("[Security] 공개 경로 테스트 - /auth/** 는 토큰이 있어도 JwtFilter 를 거치지 않음")
+	@Test
+	void given_AuthPath_when_RequestWithToken_then_SkipJwtFilter() throws Exception {
+		//when & then
+		mockMvc.perform(post("/auth/refresh")
+				.header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"username\":\"username\",\"refreshToken\":\"refreshToken\"}"))
+			.andExpect(status().isCreated());
+
+		verify(jwtTokenUtil, never()).verify(anyString());
+	}
+
+	@DisplayName("[Security] 보호 경로 테스트 - 유효한 토큰이면 JwtFilter 가 인증 정보를 채움")
+	@Test
+	void given_ProtectedPath_when_RequestWithValidToken_then_Authenticate() throws Exception {
+		//given
+		when(jwtTokenUtil.verify("access-token")).thenReturn(verifiedToken("username"));
+		when(principalDetailService.loadUserByUsername("username"))
+			.thenReturn(new PrincipalDetails(User.of("username", "password", "nickname", "kakao")));
+
+		//when & then
+		mockMvc.perform(get("/user/rp").header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN))
+			.andExpect(status().isOk());
+
+		verify(jwtTokenUtil).verify("access-token");
+		verify(rpService).getRp("username");
+	}
+
+	@DisplayName("[Security] 보호 경로 테스트 - /admin/** 는 토큰이 없으면 거부")
+	@Test
+	void given_AdminPath_when_RequestWithoutToken_then_Forbidden() throws Exception {
+		//when & then
+		mockMvc.perform(get("/admin/routine"))
+			.andExpect(status().isForbidden());
+	}
+
+	@DisplayName("[Security] 보호 경로 테스트 - /admin/** 는 검증에 실패한 토큰이면 거부")
+	@Test
+	void given_AdminPath_when_RequestWithInvalidToken_then_Forbidden() throws Exception {
+		//given
+		when(jwtTokenUtil.verify("access-token")).thenThrow(new JwtException("invalid"));
+
+		//when & then
+		mockMvc.perform(get("/admin/routine").header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN))
+			.andExpect(status().isForbidden());
+
+		verify(jwtTokenUtil).verify("access-token");
+	}
+
+	@DisplayName("[Security] 보호 경로 테스트 - /admin/** 는 유효한 토큰이면 보안 필터를 통과")
+	@Test
+	void given_AdminPath_when_RequestWithValidToken_then_PassSecurity() throws Exception {
+		//given
+		when(jwtTokenUtil.verify("access-token")).thenReturn(verifiedToken("username"));
+		when(principalDetailService.loadUserByUsername("username"))
+			.thenReturn(new PrincipalDetails(User.of("username", "password", "nickname", "kakao")));
+
+		//when & then
+		mockMvc.perform(get("/admin/routine").header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN))
+			.andExpect(status().isNotFound());
+	}
+
+	private static VerifiedToken verifiedToken(String username) {
+		Claims claims = Jwts.claims();
+		claims.put(VerifiedToken.USERNAME_CLAIM, username);
+		claims.setExpiration(new Date(System.currentTimeMillis() + 60 * 1000L));
+		return VerifiedToken.from(claims);
+	}
+
+	@TestConfiguration
+	static class MeterRegistryConfig {
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+	}
+
+}
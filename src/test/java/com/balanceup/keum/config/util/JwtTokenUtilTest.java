@@ -0,0 +1,95 @@
+package com.balanceup.keum.config.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.balanceup.keum.controller.dto.TokenDto;
+import com.balanceup.keum.domain.User;
+import com.balanceup.keum.repository.RefreshTokenStore;
+
+import io.jsonwebtoken.JwtException;
+
+@ExtendWith(MockitoExtension.class)
+public class JwtTokenUtilTest {
+
+	@Mock
+	private RefreshTokenStore refreshTokenStore;
+
+	@InjectMocks
+	private JwtTokenUtil jwtTokenUtil;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(jwtTokenUtil, "accessTokenExpiredTimeMs", 60 * 1000L);
+		ReflectionTestUtils.setField(jwtTokenUtil, "key", "keum-test-secret-key-keum-test-secret-key");
+		ReflectionTestUtils.setField(jwtTokenUtil, "verifiedTokenCacheSize", 100);
+		jwtTokenUtil.init();
+	}
+
+	@DisplayName("토큰 검증 테스트 - 발급한 토큰의 username 과 만료 시간을 한 번에 반환")
+	@Test
+	void given_GeneratedToken_when_Verify_then_ReturnClaims() {
+		//given
+		TokenDto token = jwtTokenUtil.generateToken(User.of("username", "password", "nickname", "kakao"));
+
+		//when
+		VerifiedToken verifiedToken = jwtTokenUtil.verify(token.getToken());
+
+		//then
+		assertEquals("username", verifiedToken.getUsername());
+		assertFalse(verifiedToken.isExpired(System.currentTimeMillis()));
+	}
+
+	@DisplayName("토큰 검증 테스트 - access token 에 user id, role, 닉네임 여부 포함")
+	@Test
+	void given_PersistedUser_when_Verify_then_ReturnPrincipalClaims() {
+		//given
+		User user = User.of("username", "password", null, "kakao");
+		ReflectionTestUtils.setField(user, "id", 1L);
+
+		//when
+		VerifiedToken verifiedToken = jwtTokenUtil.verify(jwtTokenUtil.generateToken(user).getToken());
+
+		//then
+		assertTrue(verifiedToken.hasPrincipalClaims());
+		assertEquals(1L, verifiedToken.getUserId());
+		assertEquals("ROLE_USER", verifiedToken.getRole());
+		assertFalse(verifiedToken.isNicknamePresent());
+	}
+
+	@DisplayName("토큰 검증 테스트 - 같은 토큰은 캐시된 결과를 반환")
+	@Test
+	void given_SameToken_when_VerifyTwice_then_ReturnCachedToken() {
+		//given
+		TokenDto token = jwtTokenUtil.generateToken(User.of("username", "password", "nickname", "kakao"));
+
+		//when
+		VerifiedToken first = jwtTokenUtil.verify(token.getToken());
+		VerifiedToken second = jwtTokenUtil.verify(token.getToken());
+
+		//then
+		assertSame(first, second);
+	}
+
+	@DisplayName("토큰 검증 테스트 - 위조된 토큰")
+	@Test
+	void given_TamperedToken_when_Verify_then_ThrowJwtException() {
+		//given
+		String token = jwtTokenUtil.generateToken(User.of("username", "password", "nickname", "kakao")).getToken();
+		int signatureStart = token.lastIndexOf('.') + 1;
+		char replaced = token.charAt(signatureStart) == 'A' ? 'B' : 'A';
+		String tampered = token.substring(0, signatureStart) + replaced + token.substring(signatureStart + 1);
+
+		//when & then
+		assertThrows(JwtException.class, () -> jwtTokenUtil.verify(tampered));
+	}
+
+}
@@ -0,0 +1,77 @@
+package com.balanceup.keum.config.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class LruTtlCacheTest {
+
+	@DisplayName("캐시 TTL 테스트 - TTL 이 지나면 값을 반환하지 않음")
+	@Test
+	void given_ExpiredEntry_when_Get_then_ReturnNull() {
+		//given
+		AtomicLong nanos = new AtomicLong();
+		LruTtlCache<String, String> cache = new LruTtlCache<>(10, 1000L, nanos::get);
+		cache.put("key", "value");
+
+		//when
+		String beforeTtl = cache.get("key");
+		nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000L));
+		String afterTtl = cache.get("key");
+
+		//then
+		assertEquals("value", beforeTtl);
+		assertNull(afterTtl);
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+	}
+
+	@DisplayName("캐시 용량 테스트 - 최대 크기를 넘으면 evict")
+	@Test
+	void given_FullCache_when_Put_then_Evict() {
+		//given
+		LruTtlCache<String, String> cache = new LruTtlCache<>(10, 60 * 1000L);
+
+		//when
+		for (int i = 0; i < 100; i++) {
+			cache.put("key-" + i, "value-" + i);
+		}
+
+		//then
+		assertEquals(10, cache.size());
+		assertEquals(90, cache.getEvictionCount());
+	}
+
+	@DisplayName("캐시 무효화 테스트 - invalidate 한 키는 반환하지 않음")
+	@Test
+	void given_CachedEntry_when_Invalidate_then_ReturnNull() {
+		//given
+		LruTtlCache<String, String> cache = new LruTtlCache<>(10, 60 * 1000L);
+		cache.put("key", "value");
+
+		//when
+		cache.invalidate("key");
+
+		//then
+		assertNull(cache.get("key"));
+	}
+
+	@DisplayName("캐시 비활성화 테스트 - 최대 크기가 0 이면 저장하지 않음")
+	@Test
+	void given_ZeroSize_when_Put_then_NotCached() {
+		//given
+		LruTtlCache<String, String> cache = new LruTtlCache<>(0, 60 * 1000L);
+
+		//when
+		cache.put("key", "value");
+
+		//then
+		assertNull(cache.get("key"));
+		assertEquals(0, cache.size());
+	}
+
+}
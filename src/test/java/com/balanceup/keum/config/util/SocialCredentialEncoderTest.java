@@ -0,0 +1,121 @@
+package com.balanceup.keum.config.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class SocialCredentialEncoderTest {
+
+	@Mock
+	private BCryptPasswordEncoder encoder;
+
+	@InjectMocks
+	private SocialCredentialEncoder credentialEncoder;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(credentialEncoder, "scheme", "hmac");
+		ReflectionTestUtils.setField(credentialEncoder, "hmacKey", "keum-test-secret-key");
+		ReflectionTestUtils.setField(credentialEncoder, "hashingPoolSize", 1);
+		ReflectionTestUtils.setField(credentialEncoder, "hashingQueueCapacity", 1);
+		credentialEncoder.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		credentialEncoder.destroy();
+	}
+
+	@DisplayName("소셜 인증 정보 테스트 - HMAC 방식은 BCrypt 없이 제공자별로 다른 값을 반환")
+	@Test
+	void given_HmacScheme_when_Encode_then_ReturnKeyedDigest() {
+		//when
+		String kakao = credentialEncoder.encode("kakao", "2544958733").join();
+		String kakaoAgain = credentialEncoder.encode("kakao", "2544958733").join();
+		String google = credentialEncoder.encode("google", "2544958733").join();
+
+		//then
+		assertTrue(kakao.startsWith(SocialCredentialEncoder.HMAC_PREFIX));
+		assertEquals(kakao, kakaoAgain);
+		assertNotEquals(kakao, google);
+		verifyNoInteractions(encoder);
+	}
+
+	@DisplayName("소셜 인증 정보 테스트 - 전용 HMAC 키가 없으면 초기화 실패")
+	@Test
+	void given_BlankHmacKey_when_Init_then_ThrowException() {
+		//given
+		SocialCredentialEncoder withoutKey = new SocialCredentialEncoder(encoder);
+		ReflectionTestUtils.setField(withoutKey, "hmacKey", " ");
+
+		//when & then
+		assertThrows(IllegalStateException.class, withoutKey::init);
+	}
+
+	@DisplayName("소셜 인증 정보 테스트 - BCrypt 방식은 비밀번호 해싱 풀에서 인코딩")
+	@Test
+	void given_BcryptScheme_when_Encode_then_EncodeOnHashingPool() {
+		//given
+		ReflectionTestUtils.setField(credentialEncoder, "scheme", "bcrypt");
+		when(encoder.encode("2544958733")).thenAnswer(invocation -> Thread.currentThread().getName());
+
+		//when
+		String encoded = credentialEncoder.encode("kakao", "2544958733").join();
+
+		//then
+		assertTrue(encoded.startsWith("password-hashing-"));
+	}
+
+	@DisplayName("소셜 인증 정보 테스트 - 해싱 풀과 대기열이 가득 차면 요청을 거절하고 지표에 반영")
+	@Test
+	void given_SaturatedHashingPool_when_Encode_then_RejectAndReportGauges() throws Exception {
+		//given
+		ReflectionTestUtils.setField(credentialEncoder, "scheme", "bcrypt");
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		credentialEncoder.bindTo(registry);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(encoder.encode(anyString())).thenAnswer(invocation -> {
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return "{bcrypt}hash";
+		});
+
+		CompletableFuture<String> running = credentialEncoder.encode("kakao", "first");
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		CompletableFuture<String> queued = credentialEncoder.encode("kakao", "second");
+
+		//when
+		CompletableFuture<String> rejected = credentialEncoder.encode("kakao", "third");
+
+		//then
+		assertEquals(1, registry.get("password.hashing.active").gauge().value());
+		assertEquals(1, registry.get("password.hashing.queue").gauge().value());
+		CompletionException e = assertThrows(CompletionException.class, rejected::join);
+		assertInstanceOf(IllegalStateException.class, e.getCause());
+		assertEquals("가입 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", e.getCause().getMessage());
+
+		release.countDown();
+		assertEquals("{bcrypt}hash", running.join());
+		assertEquals("{bcrypt}hash", queued.join());
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.balanceup.keum.config.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+public class VerifiedTokenCacheTest {
+
+	@DisplayName("토큰 캐시 테스트 - 가득 찬 상태에서도 새 토큰을 저장하고 최대 크기를 넘지 않음")
+	@Test
+	void given_FullCache_when_Put_then_EvictAndStayBounded() {
+		//given
+		long now = System.currentTimeMillis();
+		VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(10);
+		for (int i = 0; i < 10; i++) {
+			verifiedTokenCache.put("token-" + i, verifiedToken(now + 60 * 1000L), now);
+		}
+
+		//when
+		verifiedTokenCache.put("token-new", verifiedToken(now + 60 * 1000L), now);
+
+		//then
+		assertNotNull(verifiedTokenCache.get("token-new", now));
+		assertTrue(verifiedTokenCache.size() <= 10);
+	}
+
+	@DisplayName("토큰 캐시 테스트 - 만료된 토큰은 반환하지 않음")
+	@Test
+	void given_ExpiredToken_when_Get_then_ReturnNull() {
+		//given
+		long now = System.currentTimeMillis();
+		VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(10);
+		verifiedTokenCache.put("token", verifiedToken(now + 1000L), now);
+
+		//when
+		VerifiedToken verifiedToken = verifiedTokenCache.get("token", now + 1000L);
+
+		//then
+		assertNull(verifiedToken);
+	}
+
+	@DisplayName("토큰 캐시 테스트 - 크기가 0 이면 저장하지 않음")
+	@Test
+	void given_ZeroSize_when_Put_then_NotCached() {
+		//given
+		long now = System.currentTimeMillis();
+		VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(0);
+
+		//when
+		verifiedTokenCache.put("token", verifiedToken(now + 60 * 1000L), now);
+
+		//then
+		assertNull(verifiedTokenCache.get("token", now));
+	}
+
+	private static VerifiedToken verifiedToken(long expiresAtMs) {
+		Claims claims = Jwts.claims();
+		claims.put(VerifiedToken.USERNAME_CLAIM, "username");
+		claims.setExpiration(new Date(expiresAtMs));
+		return VerifiedToken.from(claims);
+	}
+
+}
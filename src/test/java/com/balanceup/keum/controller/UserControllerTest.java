@@ -27,6 +27,7 @@ import com.balanceup.keum.controller.dto.request.user.ReIssueRequest;
 import com.balanceup.keum.controller.dto.request.user.UserDeleteRequest;
 import com.balanceup.keum.controller.dto.request.user.UserNicknameDuplicateRequest;
 import com.balanceup.keum.controller.dto.request.user.UserNicknameUpdateRequest;
+import com.balanceup.keum.controller.dto.request.user.UserTimeZoneUpdateRequest;
 import com.balanceup.keum.controller.dto.response.user.UserDeleteResponse;
 import com.balanceup.keum.controller.dto.response.user.UserResponse;
 import com.balanceup.keum.service.UserService;
@@ -301,6 +302,52 @@ public class UserControllerTest {
 			.andExpect(jsonPath("$.message", containsString("회원탈퇴가 완료되었습니다.")));
 	}
 
+	@DisplayName("[API][PUT] 시간대 업데이트 테스트 - 성공")
+	@Test
+	@WithMockUser
+	void given_TimeZoneRequest_when_UpdateTimeZone_then_ReturnOk() throws Exception {
+		//given
+		UserTimeZoneUpdateRequest request = new UserTimeZoneUpdateRequest("America/New_York");
+
+		//mock
+		when(userService.updateTimeZone(Mockito.any(UserTimeZoneUpdateRequest.class), eq("user")))
+			.thenReturn("America/New_York");
+
+		//when & then
+		mockMvc.perform(put("/user/time-zone")
+				.with(csrf())
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsBytes(request))
+			).andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+			.andExpect(jsonPath("$.resultCode", containsString("success")))
+			.andExpect(jsonPath("$.message", containsString("시간대 업데이트 성공")))
+			.andExpect(jsonPath("$.body", is("America/New_York")));
+	}
+
+	@DisplayName("[API][PUT] 시간대 업데이트 테스트(잘못된 시간대) - 실패")
+	@Test
+	@WithMockUser
+	void given_InvalidTimeZone_when_UpdateTimeZone_then_ReturnBadRequest() throws Exception {
+		//given
+		UserTimeZoneUpdateRequest request = new UserTimeZoneUpdateRequest("Mars/Olympus");
+
+		//mock
+		when(userService.updateTimeZone(Mockito.any(UserTimeZoneUpdateRequest.class), anyString())).thenThrow(
+			new IllegalArgumentException("올바르지 않은 시간대입니다."));
+
+		//when & then
+		mockMvc.perform(put("/user/time-zone")
+				.with(csrf())
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsBytes(request))
+			).andDo(print())
+			.andExpect(status().isBadRequest())
+			.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+			.andExpect(jsonPath("$.resultCode", containsString("error")));
+	}
+
 	private static ReIssueRequest getReIssueRequestFixture() {
 		ReIssueRequest request = new ReIssueRequest();
 		request.setUsername("username");
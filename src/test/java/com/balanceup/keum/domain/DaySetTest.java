@@ -0,0 +1,68 @@
+package com.balanceup.keum.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class DaySetTest {
+
+	@DisplayName("요일 집합 테스트 - 한글 요일 문자열을 비트마스크로 변환")
+	@Test
+	void given_KoreanDays_when_Parse_then_ReturnMask() {
+		//when
+		DaySet days = DaySet.parse("월수금");
+
+		//then
+		assertEquals(Day.MONDAY.getMask() | Day.WEDNESDAY.getMask() | Day.FRIDAY.getMask(), days.getMask());
+		assertEquals(3, days.size());
+		assertTrue(days.contains(Day.WEDNESDAY));
+		assertFalse(days.contains(Day.TUESDAY));
+		assertEquals(List.of(Day.MONDAY, Day.WEDNESDAY, Day.FRIDAY), days.toList());
+		assertSame(days, DaySet.ofMask(days.getMask()));
+	}
+
+	@DisplayName("요일 집합 테스트 - 잘못된 요일일 경우")
+	@Test
+	void given_InvalidDay_when_Parse_then_ThrowException() {
+		//when & then
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> DaySet.parse("월x"));
+		assertEquals("잘못된 요일입니다.", e.getMessage());
+	}
+
+	@DisplayName("요일 집합 테스트 - JSON 은 기존처럼 한글 요일 문자열로 직렬화")
+	@Test
+	void given_DaySet_when_Serialize_then_KeepWireFormat() throws JsonProcessingException {
+		//given
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		//when
+		String json = objectMapper.writeValueAsString(DaySet.parse("월화수"));
+		DaySet days = objectMapper.readValue("\"월화수\"", DaySet.class);
+
+		//then
+		assertEquals("\"월화수\"", json);
+		assertEquals(DaySet.parse("월화수"), days);
+		assertEquals(7, new DaySetConverter().convertToEntityAttribute((short)7).getMask());
+	}
+
+	@DisplayName("요일 집합 테스트 - JSON 은 일요일부터 요일 선언 순서로 직렬화하고 중복 요일은 한 번만 포함")
+	@Test
+	void given_UnorderedDays_when_Serialize_then_SundayFirst() throws JsonProcessingException {
+		//given
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		//when
+		String json = objectMapper.writeValueAsString(DaySet.parse("토월일월"));
+
+		//then
+		assertEquals("\"일월토\"", json);
+		assertEquals(List.of(Day.SUNDAY, Day.MONDAY, Day.SATURDAY), DaySet.parse("토월일월").toList());
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.balanceup.keum.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class RoutineTest {
+
+	private static final LocalDate MONDAY = LocalDate.of(2023, 1, 2);
+
+	@DisplayName("비트맵 진행 테스트 - 시작일 기준 14일 중 진행 요일만 완료하면 전체 완료")
+	@Test
+	void given_BitmapRoutine_when_ProgressScheduledDays_then_AllDone() {
+		//given
+		Routine routine = Routine.of("title", RoutineCategory.EXERCISE, DaySet.parse("월수"), "09:00",
+			User.of("username", "password", "nickname", "kakao"));
+		routine.startBitmapProgress(MONDAY);
+
+		//when
+		for (int order : new int[] {0, 2, 7, 9}) {
+			routine.progress(MONDAY.plusDays(order));
+		}
+
+		//then
+		assertEquals(0b1010000101, routine.getScheduledBitmap());
+		assertDoesNotThrow(routine::isAllDone);
+	}
+
+	@DisplayName("비트맵 진행 테스트 - 진행 요일 중 하나라도 빠지면 완료되지 않음")
+	@Test
+	void given_BitmapRoutine_when_MissScheduledDay_then_ThrowException() {
+		//given
+		Routine routine = Routine.of("title", RoutineCategory.EXERCISE, DaySet.parse("월수"), "09:00",
+			User.of("username", "password", "nickname", "kakao"));
+		routine.startBitmapProgress(MONDAY);
+
+		//when
+		routine.progress(MONDAY);
+		routine.progress(MONDAY.plusDays(1));
+		routine.progress(MONDAY.plusDays(Routine.ROUTINE_MAX_DAY));
+
+		//then
+		IllegalStateException e = assertThrows(IllegalStateException.class, routine::isAllDone);
+		assertEquals("루틴이 완료되지 않았습니다.", e.getMessage());
+	}
+
+	@DisplayName("RoutineDay 진행 테스트 - 진행 요일의 RoutineDay 를 모두 완료하면 전체 완료")
+	@Test
+	void given_RoutineDays_when_ProgressScheduledDays_then_AllDone() {
+		//given
+		Routine routine = Routine.of("title", RoutineCategory.EXERCISE, DaySet.parse("월수"), "09:00",
+			User.of("username", "password", "nickname", "kakao"));
+		for (int order = 0; order < Routine.ROUTINE_MAX_DAY; order++) {
+			routine.addRoutineDay(RoutineDay.makeRoutineDay(routine, MONDAY, order));
+		}
+
+		//when
+		for (RoutineDay routineDay : routine.getRoutineDays()) {
+			if (routine.getDays().contains(routineDay.getDay().getDayOfWeek())) {
+				routineDay.progress();
+			}
+		}
+		routine.recountProgress();
+
+		//then
+		assertEquals(MONDAY.plusDays(13), routine.getRoutineDays().get(13).getDay());
+		assertEquals(4, routine.getRequiredCount());
+		assertDoesNotThrow(routine::isAllDone);
+	}
+
+}
@@ -0,0 +1,196 @@
+package com.balanceup.keum.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class InProcessKeyValueStoreTest {
+
+	private final AtomicLong clock = new AtomicLong(1_000_000L);
+	private InProcessKeyValueStore keyValueStore;
+
+	@BeforeEach
+	void setUp() {
+		keyValueStore = new InProcessKeyValueStore(2, 100, clock::get);
+	}
+
+	@DisplayName("TTL 테스트 - 만료 시간이 지난 값은 조회되지 않고 타이머 휠이 제거")
+	@Test
+	void given_ExpiredValue_when_Expire_then_Removed() {
+		//given
+		keyValueStore.setValues("key", "value", Duration.ofSeconds(10));
+
+		//when
+		clock.addAndGet(Duration.ofSeconds(10).toMillis());
+		keyValueStore.expire();
+
+		//then
+		assertNull(keyValueStore.getValues("key"));
+		assertEquals(0, keyValueStore.size());
+	}
+
+	@DisplayName("TTL 테스트 - 만료 전에 다시 저장된 값은 이전 타이머로 제거되지 않음")
+	@Test
+	void given_RewrittenValue_when_PreviousTimerFires_then_Kept() {
+		//given
+		keyValueStore.setValues("key", "value", Duration.ofSeconds(1));
+		keyValueStore.setValues("key", "rewritten", Duration.ofMinutes(1));
+
+		//when
+		clock.addAndGet(Duration.ofSeconds(2).toMillis());
+		keyValueStore.expire();
+
+		//then
+		assertEquals("rewritten", keyValueStore.getValues("key"));
+	}
+
+	@DisplayName("TTL 테스트 - 같은 키를 덮어쓰거나 삭제하면 이전 타이머를 취소")
+	@Test
+	void given_RewrittenValue_when_SetOrDelete_then_CancelPreviousTimer() {
+		//given
+		for (int i = 0; i < 1000; i++) {
+			keyValueStore.setValues("key", "value-" + i, Duration.ofMinutes(1));
+		}
+		int pendingAfterRewrite = keyValueStore.pendingExpirations();
+
+		//when
+		keyValueStore.deleteValues("key");
+
+		//then
+		assertEquals(1, pendingAfterRewrite);
+		assertEquals(0, keyValueStore.pendingExpirations());
+		assertEquals(0, keyValueStore.size());
+	}
+
+	@DisplayName("TTL 테스트 - 만료 시간 없이 덮어쓰면 이전 타이머를 취소")
+	@Test
+	void given_ExpiringValue_when_SetWithoutTtl_then_CancelTimerAndKeep() {
+		//given
+		keyValueStore.setValues("key", "value", Duration.ofSeconds(1));
+
+		//when
+		keyValueStore.setValues("key", "persistent");
+		clock.addAndGet(Duration.ofSeconds(2).toMillis());
+		keyValueStore.expire();
+
+		//then
+		assertEquals(0, keyValueStore.pendingExpirations());
+		assertEquals("persistent", keyValueStore.getValues("key"));
+	}
+
+	@DisplayName("CAS 테스트 - guard 값이 다르면 MISSING, 기존 값이 다르면 MISMATCH 반환")
+	@Test
+	void given_StoredValue_when_CompareAndSetIf_then_ReturnResult() {
+		//given
+		keyValueStore.setValues("key", "value", Duration.ofMinutes(1));
+
+		//when
+		CompareAndSetResult guardMissing = keyValueStore.compareAndSetIf("guard", "1", "key", "value", "next",
+			Duration.ofMinutes(1));
+		CompareAndSetResult mismatch = keyValueStore.compareAndSetIf("guard", null, "key", "other", "next",
+			Duration.ofMinutes(1));
+		CompareAndSetResult swapped = keyValueStore.compareAndSetIf("guard", null, "key", "value", "next",
+			Duration.ofMinutes(1));
+
+		//then
+		assertEquals(CompareAndSetResult.MISSING, guardMissing);
+		assertEquals(CompareAndSetResult.MISMATCH, mismatch);
+		assertEquals(CompareAndSetResult.SWAPPED, swapped);
+		assertEquals("next", keyValueStore.getValues("key"));
+	}
+
+	@DisplayName("CAS 테스트 - compareAndSetIfOrDelete 는 MISMATCH 일 때 키를 삭제")
+	@Test
+	void given_MismatchedValue_when_CompareAndSetIfOrDelete_then_Deleted() {
+		//given
+		keyValueStore.setValues("key", "value", Duration.ofMinutes(1));
+
+		//when
+		CompareAndSetResult mismatch = keyValueStore.compareAndSetIfOrDelete("guard", null, "key", "other", "next",
+			Duration.ofMinutes(1));
+
+		//then
+		assertEquals(CompareAndSetResult.MISMATCH, mismatch);
+		assertNull(keyValueStore.getValues("key"));
+	}
+
+	@DisplayName("용량 테스트 - 최대 개수를 초과하는 새 키는 저장을 거부")
+	@Test
+	void given_FullStore_when_SetNewKey_then_ThrowException() {
+		//given
+		keyValueStore.setValues("first", "1");
+		keyValueStore.setValues("second", "2");
+
+		//when
+		keyValueStore.setValues("first", "updated");
+
+		//then
+		assertThrows(IllegalStateException.class, () -> keyValueStore.setValues("third", "3"));
+		assertEquals("updated", keyValueStore.getValues("first"));
+	}
+
+	@DisplayName("용량 테스트 - 여러 스레드가 동시에 새 키를 저장해도 최대 개수를 넘지 않음")
+	@Test
+	void given_ConcurrentWriters_when_SetNewKeys_then_StayWithinMaximum() throws InterruptedException {
+		//given
+		InProcessKeyValueStore store = new InProcessKeyValueStore(100, 100, clock::get);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger stored = new AtomicInteger();
+
+		//when
+		for (int thread = 0; thread < 8; thread++) {
+			int offset = thread * 100;
+			executor.execute(() -> {
+				try {
+					start.await();
+					for (int i = 0; i < 100; i++) {
+						try {
+							store.setValues("key-" + (offset + i), "value", Duration.ofMinutes(1));
+							stored.incrementAndGet();
+						} catch (IllegalStateException ignored) {
+						}
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		start.countDown();
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+		//then
+		assertEquals(100, stored.get());
+		assertEquals(100, store.size());
+		assertEquals(100, store.pendingExpirations());
+	}
+
+	@DisplayName("Pub/Sub 테스트 - 구독한 채널의 메시지만 전달")
+	@Test
+	void given_Subscriber_when_Publish_then_Delivered() {
+		//given
+		List<String> received = new ArrayList<>();
+		keyValueStore.subscribe("channel", received::add);
+
+		//when
+		keyValueStore.publish("channel", "message");
+		keyValueStore.publish("other", "ignored");
+
+		//then
+		assertEquals(List.of("message"), received);
+	}
+
+}
@@ -0,0 +1,93 @@
+package com.balanceup.keum.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.balanceup.keum.config.util.LruTtlCache;
+
+public class RedisNearCacheTest {
+
+	private RedisNearCache nearCache;
+	private LruTtlCache<String, String> values;
+
+	@BeforeEach
+	void setUp() {
+		nearCache = new RedisNearCache();
+		values = new LruTtlCache<>(100, 60 * 1000L);
+		ReflectionTestUtils.setField(nearCache, "values", values);
+		ReflectionTestUtils.setField(nearCache, "tracking", true);
+	}
+
+	@DisplayName("Near cache 테스트 - 무효화 없이 읽은 값은 캐시에 저장")
+	@Test
+	void given_NoInvalidation_when_Fill_then_Cached() {
+		//when
+		String value = nearCache.fill("key", () -> "value");
+
+		//then
+		assertEquals("value", value);
+		assertEquals("value", values.get("key"));
+	}
+
+	@DisplayName("Near cache 테스트 - 읽는 도중 같은 키가 무효화되면 캐시에 저장하지 않음")
+	@Test
+	void given_InvalidationDuringLoad_when_Fill_then_NotCached() {
+		//when
+		String value = nearCache.fill("key", () -> {
+			nearCache.invalidate("key");
+			return "stale";
+		});
+
+		//then
+		assertEquals("stale", value);
+		assertNull(values.get("key"));
+	}
+
+	@DisplayName("Near cache 테스트 - 읽는 도중 다른 키가 무효화되어도 캐시에 저장")
+	@Test
+	void given_OtherKeyInvalidatedDuringLoad_when_Fill_then_Cached() {
+		//when
+		nearCache.fill("key", () -> {
+			nearCache.invalidate(List.of("other", "another"));
+			return "value";
+		});
+
+		//then
+		assertEquals("value", values.get("key"));
+	}
+
+	@DisplayName("Near cache 테스트 - 같은 키를 동시에 읽으면 먼저 끝난 쪽은 저장한 값을 지움")
+	@Test
+	void given_OverlappingFills_when_Fill_then_OnlyLatestKept() {
+		//when
+		nearCache.fill("key", () -> {
+			nearCache.fill("key", () -> "latest");
+			return "earlier";
+		});
+
+		//then
+		assertNull(values.get("key"));
+		assertEquals("latest", nearCache.fill("key", () -> "latest"));
+		assertEquals("latest", values.get("key"));
+	}
+
+	@DisplayName("Near cache 테스트 - 트래킹이 꺼져 있으면 캐시에 저장하지 않음")
+	@Test
+	void given_TrackingDisabled_when_Fill_then_NotCached() {
+		//given
+		ReflectionTestUtils.setField(nearCache, "tracking", false);
+
+		//when
+		nearCache.fill("key", () -> "value");
+
+		//then
+		assertNull(values.get("key"));
+	}
+
+}
@@ -0,0 +1,93 @@
+package com.balanceup.keum.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Objects;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+
+@Testcontainers(disabledWithoutDocker = true)
+public class RedisNearCacheTrackingTest {
+
+	@Container
+	private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:6.2-alpine"))
+		.withExposedPorts(6379);
+
+	private RedisNearCache nearCache;
+	private RedisClient writerClient;
+	private StatefulRedisConnection<String, String> writer;
+
+	@BeforeEach
+	void setUp() {
+		writerClient = RedisClient.create(RedisURI.create(REDIS.getHost(), REDIS.getMappedPort(6379)));
+		writer = writerClient.connect();
+		writer.sync().flushdb();
+
+		nearCache = new RedisNearCache();
+		ReflectionTestUtils.setField(nearCache, "enabled", true);
+		ReflectionTestUtils.setField(nearCache, "maximumSize", 100);
+		ReflectionTestUtils.setField(nearCache, "ttlMs", 60 * 1000L);
+		ReflectionTestUtils.setField(nearCache, "host", REDIS.getHost());
+		ReflectionTestUtils.setField(nearCache, "port", REDIS.getMappedPort(6379));
+		ReflectionTestUtils.setField(nearCache, "commandTimeoutMs", 1000L);
+		ReflectionTestUtils.invokeMethod(nearCache, "init");
+	}
+
+	@AfterEach
+	void tearDown() {
+		ReflectionTestUtils.invokeMethod(nearCache, "destroy");
+		writer.close();
+		writerClient.shutdown();
+	}
+
+	@DisplayName("Near cache 트래킹 테스트 - 다른 클라이언트가 값을 바꾸면 invalidate push 로 캐시가 지워짐")
+	@Test
+	void given_CachedValue_when_OtherClientWrites_then_ReadNewValue() throws InterruptedException {
+		//given
+		writer.sync().set("key", "value");
+		assertEquals("value", nearCache.get("key"));
+		assertEquals("value", nearCache.get("key"));
+
+		//when
+		writer.sync().set("key", "updated");
+
+		//then
+		assertEquals("updated", awaitValue("key", "updated"));
+	}
+
+	@DisplayName("Near cache 트래킹 테스트 - 다른 클라이언트가 키를 지우면 캐시도 비워짐")
+	@Test
+	void given_CachedValue_when_OtherClientDeletes_then_ReadNull() throws InterruptedException {
+		//given
+		writer.sync().set("key", "value");
+		assertEquals("value", nearCache.get("key"));
+
+		//when
+		writer.sync().del("key");
+
+		//then
+		assertNull(awaitValue("key", null));
+	}
+
+	private String awaitValue(String key, String expected) throws InterruptedException {
+		String value = nearCache.get(key);
+		for (int i = 0; i < 50 && !Objects.equals(expected, value); i++) {
+			Thread.sleep(100);
+			value = nearCache.get(key);
+		}
+		return value;
+	}
+
+}
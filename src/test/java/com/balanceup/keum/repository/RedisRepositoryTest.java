@@ -0,0 +1,198 @@
+package com.balanceup.keum.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@Testcontainers(disabledWithoutDocker = true)
+public class RedisRepositoryTest {
+
+	private static final Duration TTL = Duration.ofMinutes(1);
+
+	@Container
+	private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:6.2-alpine"))
+		.withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+
+	private RedisTemplate<String, String> redisTemplate;
+	private RedisMessageListenerContainer listenerContainer;
+	private SimpleMeterRegistry meterRegistry;
+	private RedisRepository redisRepository;
+
+	@BeforeAll
+	static void setUpConnection() {
+		connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void tearDownConnection() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(new StringRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+		redisTemplate.execute(connection -> {
+			connection.flushDb();
+			return null;
+		}, true);
+
+		listenerContainer = new RedisMessageListenerContainer();
+		listenerContainer.setConnectionFactory(connectionFactory);
+		meterRegistry = new SimpleMeterRegistry();
+
+		RedisNearCache nearCache = new RedisNearCache();
+		ReflectionTestUtils.invokeMethod(nearCache, "init");
+
+		redisRepository = new RedisRepository(redisTemplate, listenerContainer, nearCache, meterRegistry);
+	}
+
+	@DisplayName("Redis 다중 키 테스트 - multiSet 으로 저장한 값을 multiGet 으로 순서대로 조회하고 TTL 을 설정")
+	@Test
+	void given_KeyValues_when_MultiSetAndMultiGet_then_ReturnInOrder() {
+		//given
+		List<KeyValue> keyValues = List.of(
+			KeyValue.of("first", "1", TTL),
+			KeyValue.of("second", "2"));
+
+		//when
+		redisRepository.multiSet(keyValues);
+		List<String> values = redisRepository.multiGet(List.of("second", "missing", "first"));
+
+		//then
+		assertEquals(Arrays.asList("2", null, "1"), values);
+		assertTrue(redisTemplate.getExpire("first") > 0);
+		assertEquals(-1L, redisTemplate.getExpire("second"));
+	}
+
+	@DisplayName("Redis 다중 키 테스트 - multiDelete 는 전달한 키만 삭제")
+	@Test
+	void given_StoredValues_when_MultiDelete_then_DeleteOnlyGivenKeys() {
+		//given
+		redisRepository.setValues("first", "1");
+		redisRepository.setValues("second", "2");
+		redisRepository.setValues("third", "3");
+
+		//when
+		redisRepository.multiDelete(List.of("first", "second"));
+
+		//then
+		assertEquals(Arrays.asList(null, null, "3"), redisRepository.multiGet(List.of("first", "second", "third")));
+	}
+
+	@DisplayName("Redis CAS 테스트 - 기존 값이 같으면 교체하고 TTL 을 갱신, 없으면 MISSING, 다르면 MISMATCH")
+	@Test
+	void given_StoredValue_when_CompareAndSet_then_ReturnResult() {
+		//given
+		redisRepository.setValues("key", "value");
+
+		//when
+		CompareAndSetResult mismatch = redisRepository.compareAndSet("key", "other", "next", TTL);
+		CompareAndSetResult swapped = redisRepository.compareAndSet("key", "value", "next", TTL);
+		CompareAndSetResult missing = redisRepository.compareAndSet("missing", "value", "next", TTL);
+
+		//then
+		assertEquals(CompareAndSetResult.MISMATCH, mismatch);
+		assertEquals(CompareAndSetResult.SWAPPED, swapped);
+		assertEquals(CompareAndSetResult.MISSING, missing);
+		assertEquals("next", redisRepository.getValues("key"));
+		assertTrue(redisTemplate.getExpire("key") > 0);
+		assertNull(redisRepository.getValues("missing"));
+	}
+
+	@DisplayName("Redis CAS 테스트 - guard 값이 다르면 기존 값을 건드리지 않고 MISSING")
+	@Test
+	void given_GuardMismatch_when_CompareAndSetIf_then_ReturnMissing() {
+		//given
+		redisRepository.setValues("key", "value", TTL);
+		redisRepository.setValues("guard", "2");
+
+		//when
+		CompareAndSetResult guardMissing = redisRepository.compareAndSetIf("guard", "1", "key", "value", "next", TTL);
+		CompareAndSetResult absentGuard = redisRepository.compareAndSetIf("absent", null, "key", "value", "next",
+			TTL);
+
+		//then
+		assertEquals(CompareAndSetResult.MISSING, guardMissing);
+		assertEquals(CompareAndSetResult.SWAPPED, absentGuard);
+		assertEquals("next", redisRepository.getValues("key"));
+	}
+
+	@DisplayName("Redis CAS 테스트 - compareAndSetIfOrDelete 는 MISMATCH 일 때 같은 스크립트 안에서 키를 삭제")
+	@Test
+	void given_MismatchedValue_when_CompareAndSetIfOrDelete_then_DeleteKey() {
+		//given
+		redisRepository.setValues("key", "value", TTL);
+		redisRepository.setValues("other", "value", TTL);
+
+		//when
+		CompareAndSetResult deleted = redisRepository.compareAndSetIfOrDelete("guard", null, "key", "stale", "next",
+			TTL);
+		CompareAndSetResult kept = redisRepository.compareAndSetIf("guard", null, "other", "stale", "next", TTL);
+
+		//then
+		assertEquals(CompareAndSetResult.MISMATCH, deleted);
+		assertEquals(CompareAndSetResult.MISMATCH, kept);
+		assertNull(redisRepository.getValues("key"));
+		assertEquals("value", redisRepository.getValues("other"));
+	}
+
+	@DisplayName("Redis 지표 테스트 - near cache 를 켜도 조회 지연 시간을 near cache 와 Redis 로 나눠 기록")
+	@Test
+	void given_NearCacheEnabled_when_GetValues_then_RecordBySource() {
+		//given
+		RedisNearCache nearCache = new RedisNearCache();
+		ReflectionTestUtils.setField(nearCache, "enabled", true);
+		ReflectionTestUtils.setField(nearCache, "maximumSize", 100);
+		ReflectionTestUtils.setField(nearCache, "ttlMs", 60 * 1000L);
+		ReflectionTestUtils.setField(nearCache, "host", REDIS.getHost());
+		ReflectionTestUtils.setField(nearCache, "port", REDIS.getMappedPort(6379));
+		ReflectionTestUtils.setField(nearCache, "commandTimeoutMs", 1000L);
+		ReflectionTestUtils.invokeMethod(nearCache, "init");
+		redisRepository = new RedisRepository(redisTemplate, listenerContainer, nearCache, meterRegistry);
+		redisRepository.setValues("key", "value");
+
+		//when
+		try {
+			assertEquals("value", redisRepository.getValues("key"));
+			assertEquals("value", redisRepository.getValues("key"));
+		} finally {
+			ReflectionTestUtils.invokeMethod(nearCache, "destroy");
+		}
+
+		//then
+		assertEquals(1, getTimer("redis").count());
+		assertEquals(1, getTimer("near").count());
+	}
+
+	private Timer getTimer(String source) {
+		return meterRegistry.get("redis.command").tag("command", "get").tag("source", source).timer();
+	}
+
+}
@@ -0,0 +1,108 @@
+package com.balanceup.keum.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class RefreshTokenStoreTest {
+
+	private final AtomicLong clock = new AtomicLong(1_000_000L);
+	private RefreshTokenStore refreshTokenStore;
+
+	@BeforeEach
+	void setUp() {
+		refreshTokenStore = new RefreshTokenStore(new InProcessKeyValueStore(100, 100, clock::get));
+		ReflectionTestUtils.setField(refreshTokenStore, "refreshTokenExpiredTimeMs", 60 * 1000L);
+	}
+
+	@DisplayName("RefreshToken 회전 테스트 - 같은 세션의 새 토큰을 발급하고 새 토큰으로 다시 회전 가능")
+	@Test
+	void given_IssuedToken_when_Rotate_then_ReturnNewTokenOfSameSession() {
+		//given
+		String issued = refreshTokenStore.issue("username");
+
+		//when
+		String rotated = refreshTokenStore.rotate("username", issued);
+		String rotatedAgain = refreshTokenStore.rotate("username", rotated);
+
+		//then
+		assertNotEquals(issued, rotated);
+		assertEquals(sessionOf(issued), sessionOf(rotated));
+		assertEquals(sessionOf(rotated), sessionOf(rotatedAgain));
+	}
+
+	@DisplayName("RefreshToken 재사용 테스트 - 이미 회전된 토큰을 쓰면 세션 전체가 폐기")
+	@Test
+	void given_RotatedToken_when_Reuse_then_RevokeSession() {
+		//given
+		String issued = refreshTokenStore.issue("username");
+		String rotated = refreshTokenStore.rotate("username", issued);
+
+		//when
+		IllegalStateException reused = assertThrows(IllegalStateException.class,
+			() -> refreshTokenStore.rotate("username", issued));
+		IllegalStateException revoked = assertThrows(IllegalStateException.class,
+			() -> refreshTokenStore.rotate("username", rotated));
+
+		//then
+		assertEquals(RefreshTokenStore.REUSED_REFRESH_TOKEN_MESSAGE, reused.getMessage());
+		assertEquals(RefreshTokenStore.INVALID_REFRESH_TOKEN_MESSAGE, revoked.getMessage());
+	}
+
+	@DisplayName("RefreshToken 전체 폐기 테스트 - 이전 세션은 거부하고 이후 발급한 세션만 허용")
+	@Test
+	void given_IssuedTokens_when_RevokeAll_then_OnlyNewSessionRotates() {
+		//given
+		String first = refreshTokenStore.issue("username");
+		String second = refreshTokenStore.issue("username");
+		String otherUser = refreshTokenStore.issue("other");
+
+		//when
+		refreshTokenStore.revokeAll("username");
+		String afterRevoke = refreshTokenStore.issue("username");
+
+		//then
+		assertThrows(IllegalStateException.class, () -> refreshTokenStore.rotate("username", first));
+		assertThrows(IllegalStateException.class, () -> refreshTokenStore.rotate("username", second));
+		assertDoesNotThrow(() -> refreshTokenStore.rotate("username", afterRevoke));
+		assertDoesNotThrow(() -> refreshTokenStore.rotate("other", otherUser));
+	}
+
+	@DisplayName("RefreshToken 만료 테스트 - 만료된 토큰은 회전 불가")
+	@Test
+	void given_ExpiredToken_when_Rotate_then_ThrowException() {
+		//given
+		String issued = refreshTokenStore.issue("username");
+
+		//when
+		clock.addAndGet(60 * 1000L);
+
+		//then
+		IllegalStateException e = assertThrows(IllegalStateException.class,
+			() -> refreshTokenStore.rotate("username", issued));
+		assertEquals(RefreshTokenStore.INVALID_REFRESH_TOKEN_MESSAGE, e.getMessage());
+	}
+
+	@DisplayName("RefreshToken 형식 테스트 - 형식이 맞지 않거나 다른 유저의 토큰이면 거부")
+	@Test
+	void given_MalformedOrForeignToken_when_Rotate_then_ThrowException() {
+		//given
+		String otherUser = refreshTokenStore.issue("other");
+
+		//when & then
+		assertThrows(IllegalStateException.class, () -> refreshTokenStore.rotate("username", null));
+		assertThrows(IllegalStateException.class, () -> refreshTokenStore.rotate("username", "malformed"));
+		assertThrows(IllegalStateException.class, () -> refreshTokenStore.rotate("username", otherUser));
+	}
+
+	private static String sessionOf(String refreshToken) {
+		String[] parts = refreshToken.split("\\.");
+		return parts[0] + "." + parts[1];
+	}
+
+}
@@ -0,0 +1,158 @@
+package com.balanceup.keum.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.balanceup.keum.domain.DaySet;
+import com.balanceup.keum.domain.Routine;
+import com.balanceup.keum.domain.RoutineCategory;
+import com.balanceup.keum.domain.User;
+import com.balanceup.keum.service.RoutineDayService;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class RoutineCounterCheckerTest {
+
+	private static final LocalDate MONDAY = LocalDate.of(2022, 11, 7);
+
+	@Container
+	private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+		DockerImageName.parse("postgres:14-alpine"));
+
+	@DynamicPropertySource
+	static void postgresProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+	}
+
+	@Autowired
+	private RoutineRepository routineRepository;
+
+	@Autowired
+	private RoutineDayRepository routineDayRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private RoutineCounterChecker routineCounterChecker;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		routineCounterChecker = new RoutineCounterChecker(jdbcTemplate, new MigrationHistory(jdbcTemplate));
+		ReflectionTestUtils.setField(routineCounterChecker, "repair", true);
+		user = userRepository.save(User.of("username", "password", "nickname", "kakao"));
+	}
+
+	@DisplayName("완료 카운터 점검 테스트 - routine_day 기반 루틴의 틀어진 카운터를 예정된 요일 기준으로 재계산")
+	@Test
+	void given_CorruptedRowCounters_when_Repair_then_RecountScheduledDays() {
+		//given
+		RoutineDayService routineDayService = new RoutineDayService(routineDayRepository, routineRepository);
+		ReflectionTestUtils.setField(routineDayService, "progressStorage", "rows");
+		Routine routine = Routine.of("title", RoutineCategory.EXERCISE, DaySet.parse("월수"), "09:00", user);
+		routineDayService.initializeProgress(routine, MONDAY);
+		Long routineId = routineRepository.save(routine).getId();
+		entityManager.flush();
+		jdbcTemplate.update("UPDATE routine_day SET completed = true WHERE routine_id = ?", routineId);
+		jdbcTemplate.update("UPDATE routine SET required_count = 0, completed_count = 99 WHERE routine_id = ?",
+			routineId);
+
+		//when
+		routineCounterChecker.check();
+
+		//then
+		Map<String, Object> counts = counts(routineId);
+		assertEquals(4, counts.get("required_count"));
+		assertEquals(4, counts.get("completed_count"));
+	}
+
+	@DisplayName("완료 카운터 점검 테스트 - 비트맵 기반 루틴의 틀어진 카운터를 예정된 요일 기준으로 재계산")
+	@Test
+	void given_CorruptedBitmapCounters_when_Repair_then_RecountScheduledBits() {
+		//given
+		Routine routine = Routine.of("title", RoutineCategory.EXERCISE, DaySet.parse("월수"), "09:00", user);
+		routine.startBitmapProgress(MONDAY, 0b1111111);
+		Long routineId = routineRepository.save(routine).getId();
+		entityManager.flush();
+		jdbcTemplate.update("UPDATE routine SET required_count = NULL, completed_count = 0 WHERE routine_id = ?",
+			routineId);
+
+		//when
+		routineCounterChecker.check();
+
+		//then
+		Map<String, Object> counts = counts(routineId);
+		assertEquals(4, counts.get("required_count"));
+		assertEquals(2, counts.get("completed_count"));
+	}
+
+	@DisplayName("완료 카운터 점검 테스트 - 카운터가 맞으면 변경하지 않음")
+	@Test
+	void given_ConsistentCounters_when_Repair_then_UpdateNothing() {
+		//given
+		Routine routine = Routine.of("title", RoutineCategory.EXERCISE, DaySet.parse("월수"), "09:00", user);
+		routine.startBitmapProgress(MONDAY, 0b1);
+		Long routineId = routineRepository.save(routine).getId();
+		entityManager.flush();
+		Map<String, Object> before = counts(routineId);
+
+		//when
+		routineCounterChecker.check();
+
+		//then
+		assertEquals(before, counts(routineId));
+		assertEquals(1, before.get("completed_count"));
+	}
+
+	@DisplayName("완료 카운터 점검 테스트 - 복구가 꺼져 있으면 틀어진 카운터를 보고만 하고 변경하지 않음")
+	@Test
+	void given_CorruptedCountersAndReportOnly_when_Check_then_UpdateNothing() {
+		//given
+		ReflectionTestUtils.setField(routineCounterChecker, "repair", false);
+		Routine routine = Routine.of("title", RoutineCategory.EXERCISE, DaySet.parse("월수"), "09:00", user);
+		routine.startBitmapProgress(MONDAY, 0b1);
+		Long routineId = routineRepository.save(routine).getId();
+		entityManager.flush();
+		jdbcTemplate.update("UPDATE routine SET completed_count = 99 WHERE routine_id = ?", routineId);
+
+		//when
+		routineCounterChecker.check();
+
+		//then
+		assertEquals(99, counts(routineId).get("completed_count"));
+	}
+
+	private Map<String, Object> counts(Long routineId) {
+		return jdbcTemplate.queryForMap(
+			"SELECT required_count, completed_count FROM routine WHERE routine_id = ?", routineId);
+	}
+
+}
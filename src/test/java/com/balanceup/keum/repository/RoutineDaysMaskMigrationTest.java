@@ -0,0 +1,106 @@
+package com.balanceup.keum.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.balanceup.keum.domain.DaySet;
+import com.balanceup.keum.domain.Routine;
+import com.balanceup.keum.domain.RoutineCategory;
+import com.balanceup.keum.domain.User;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class RoutineDaysMaskMigrationTest {
+
+	@Container
+	private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+		DockerImageName.parse("postgres:14-alpine"));
+
+	@DynamicPropertySource
+	static void postgresProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+	}
+
+	@Autowired
+	private RoutineRepository routineRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private RoutineDaysMaskMigration migration;
+	private Routine routine;
+
+	@BeforeEach
+	void setUp() {
+		migration = new RoutineDaysMaskMigration(jdbcTemplate, new TransactionTemplate(transactionManager),
+			new MigrationHistory(jdbcTemplate));
+
+		User user = userRepository.save(User.of("username", "password", "nickname", "kakao"));
+		routine = routineRepository.save(
+			Routine.of("title", RoutineCategory.EXERCISE, DaySet.parse("월"), "09:00", user));
+		entityManager.flush();
+		entityManager.clear();
+
+		jdbcTemplate.execute("ALTER TABLE routine ADD COLUMN days VARCHAR(20)");
+		jdbcTemplate.update("UPDATE routine SET days = '월수일', days_mask = NULL");
+	}
+
+	@DisplayName("요일 변환 테스트 - 기존 요일 문자열을 days_mask 로 변환")
+	@Test
+	void given_LegacyDays_when_Run_then_BackfillDaysMask() {
+		//when
+		migration.run(null);
+
+		//then
+		assertEquals(DaySet.parse("월수일").getMask(), daysMask());
+	}
+
+	@DisplayName("요일 변환 테스트 - 이미 적용된 경우 다시 실행하지 않음")
+	@Test
+	void given_AppliedMigration_when_RunAgain_then_Skip() {
+		//given
+		migration.run(null);
+		jdbcTemplate.update("UPDATE routine SET days = '화', days_mask = NULL");
+
+		//when
+		migration.run(null);
+
+		//then
+		assertNull(daysMask());
+	}
+
+	private Integer daysMask() {
+		return jdbcTemplate.queryForObject("SELECT days_mask FROM routine WHERE routine_id = ?", Integer.class,
+			routine.getId());
+	}
+
+}
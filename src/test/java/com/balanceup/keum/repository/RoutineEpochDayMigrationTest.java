@@ -0,0 +1,120 @@
+package com.balanceup.keum.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.balanceup.keum.domain.DaySet;
+import com.balanceup.keum.domain.Routine;
+import com.balanceup.keum.domain.RoutineCategory;
+import com.balanceup.keum.domain.User;
+import com.balanceup.keum.service.RoutineDayService;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class RoutineEpochDayMigrationTest {
+
+	private static final LocalDate START_DATE = LocalDate.of(2022, 11, 1);
+
+	@Container
+	private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+		DockerImageName.parse("postgres:14-alpine"));
+
+	@DynamicPropertySource
+	static void postgresProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+	}
+
+	@Autowired
+	private RoutineRepository routineRepository;
+
+	@Autowired
+	private RoutineDayRepository routineDayRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private RoutineEpochDayMigration migration;
+	private Routine routine;
+
+	@BeforeEach
+	void setUp() {
+		migration = new RoutineEpochDayMigration(jdbcTemplate);
+
+		RoutineDayService routineDayService = new RoutineDayService(routineDayRepository, routineRepository);
+		ReflectionTestUtils.setField(routineDayService, "progressStorage", "rows");
+		User user = userRepository.save(User.of("username", "password", "nickname", "kakao"));
+		routine = Routine.of("title", RoutineCategory.EXERCISE, DaySet.parse("월화수목금토일"), "09:00", user);
+		routineDayService.initializeProgress(routine, START_DATE);
+		routine = routineRepository.save(routine);
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@DisplayName("epoch day 변환 테스트 - 기존 날짜 컬럼이 있으면 비어 있는 epoch day 를 채움")
+	@Test
+	void given_LegacyDateColumns_when_Run_then_BackfillEpochDays() {
+		//given
+		jdbcTemplate.execute("ALTER TABLE routine_day ADD COLUMN day TIMESTAMP");
+		jdbcTemplate.execute("ALTER TABLE routine ADD COLUMN start_date TIMESTAMP");
+		jdbcTemplate.update("UPDATE routine_day SET day = (DATE '1970-01-01' + epoch_day::int) + TIME '09:30', "
+			+ "epoch_day = NULL");
+		jdbcTemplate.update("UPDATE routine SET start_date = ? ::timestamp + TIME '23:59', start_epoch_day = NULL",
+			START_DATE.toString());
+
+		//when
+		migration.run(null);
+
+		//then
+		List<Long> epochDays = jdbcTemplate.queryForList(
+			"SELECT epoch_day FROM routine_day WHERE routine_id = ? ORDER BY epoch_day", Long.class, routine.getId());
+		assertEquals(Routine.ROUTINE_MAX_DAY, epochDays.size());
+		assertEquals(START_DATE.toEpochDay(), epochDays.get(0));
+		assertEquals(START_DATE.plusDays(Routine.ROUTINE_MAX_DAY - 1).toEpochDay(),
+			epochDays.get(epochDays.size() - 1));
+		assertEquals(START_DATE.toEpochDay(), jdbcTemplate.queryForObject(
+			"SELECT start_epoch_day FROM routine WHERE routine_id = ?", Long.class, routine.getId()));
+	}
+
+	@DisplayName("epoch day 변환 테스트 - 기존 날짜 컬럼이 없으면 아무것도 변경하지 않음")
+	@Test
+	void given_NoLegacyColumns_when_Run_then_Skip() {
+		//given
+		jdbcTemplate.update("UPDATE routine SET start_epoch_day = NULL");
+
+		//when
+		migration.run(null);
+
+		//then
+		assertNull(jdbcTemplate.queryForObject(
+			"SELECT start_epoch_day FROM routine WHERE routine_id = ?", Long.class, routine.getId()));
+	}
+
+}
@@ -0,0 +1,107 @@
+package com.balanceup.keum.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.balanceup.keum.domain.DaySet;
+import com.balanceup.keum.domain.Routine;
+import com.balanceup.keum.domain.RoutineCategory;
+import com.balanceup.keum.domain.User;
+import com.balanceup.keum.service.RoutineDayService;
+
+@DataJpaTest
+public class RoutineProgressMigrationTest {
+
+	@Autowired
+	private RoutineRepository routineRepository;
+
+	@Autowired
+	private RoutineDayRepository routineDayRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private RoutineProgressMigration migration;
+	private RoutineDayService routineDayService;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		migration = new RoutineProgressMigration(routineRepository, routineDayRepository,
+			new TransactionTemplate(transactionManager));
+		ReflectionTestUtils.setField(migration, "batchSize", 1);
+
+		routineDayService = new RoutineDayService(routineDayRepository, routineRepository);
+		ReflectionTestUtils.setField(routineDayService, "progressStorage", "rows");
+		user = userRepository.save(User.of("username", "password", "nickname", "kakao"));
+	}
+
+	@DisplayName("루틴 진행 변환 테스트 - days_mask, epoch day 변환 이후에 실행")
+	@Test
+	void when_SortRunners_then_RunAfterBackfills() {
+		//given
+		RoutineDaysMaskMigration daysMaskMigration = new RoutineDaysMaskMigration(null, null, null);
+		RoutineEpochDayMigration epochDayMigration = new RoutineEpochDayMigration(null);
+		List<Object> runners = new ArrayList<>(List.of(migration, epochDayMigration, daysMaskMigration));
+
+		//when
+		AnnotationAwareOrderComparator.sort(runners);
+
+		//then
+		assertEquals(List.of(daysMaskMigration, epochDayMigration, migration), runners);
+	}
+
+	@DisplayName("루틴 진행 변환 테스트 - 요일 정보가 없는 루틴은 건너뛰고 나머지를 변환")
+	@Test
+	void given_RoutineWithoutDays_when_Run_then_SkipIt() {
+		//given
+		Routine migrated = makeRoutine();
+		Routine other = makeRoutine();
+		Routine withoutDays = makeRoutine();
+		entityManager.flush();
+		jdbcTemplate.update("UPDATE routine SET days_mask = NULL WHERE routine_id = ?", withoutDays.getId());
+		entityManager.clear();
+
+		//when
+		migration.run(null);
+		entityManager.flush();
+		entityManager.clear();
+
+		//then
+		assertTrue(routineRepository.findById(migrated.getId()).orElseThrow().isBitmapProgress());
+		assertTrue(routineRepository.findById(other.getId()).orElseThrow().isBitmapProgress());
+		assertFalse(routineRepository.findById(withoutDays.getId()).orElseThrow().isBitmapProgress());
+		assertEquals(Routine.ROUTINE_MAX_DAY, routineDayRepository.count());
+	}
+
+	private Routine makeRoutine() {
+		Routine routine = Routine.of("title", RoutineCategory.EXERCISE, DaySet.parse("월화수목금토일"), "09:00", user);
+		routineDayService.initializeProgress(routine, user.today());
+		return routineRepository.save(routine);
+	}
+
+}
@@ -0,0 +1,151 @@
+package com.balanceup.keum.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.balanceup.keum.config.JpaConfig;
+import com.balanceup.keum.domain.DaySet;
+import com.balanceup.keum.domain.Routine;
+import com.balanceup.keum.domain.RoutineCategory;
+import com.balanceup.keum.domain.User;
+import com.balanceup.keum.service.RoutineDayService;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(JpaConfig.class)
+public class RoutineRepositoryTest {
+
+	@Autowired
+	private RoutineRepository routineRepository;
+
+	@Autowired
+	private RoutineDayRepository routineDayRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private RoutineDayService routineDayService;
+	private User user;
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		routineDayService = new RoutineDayService(routineDayRepository, routineRepository);
+		ReflectionTestUtils.setField(routineDayService, "progressStorage", "rows");
+		user = userRepository.save(User.of("username", "password", "nickname", "kakao"));
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@DisplayName("루틴 생성 테스트 - 루틴과 14개의 RoutineDay 를 외래키를 포함한 배치 insert 로 저장")
+	@Test
+	void given_RoutineWithRoutineDays_when_Save_then_BatchInsertWithForeignKey() {
+		//given
+		makeRoutine();
+		entityManager.flush();
+		entityManager.clear();
+		statistics.clear();
+
+		//when
+		makeRoutine();
+		entityManager.flush();
+
+		//then
+		assertEquals(15, statistics.getEntityInsertCount());
+		assertEquals(0, statistics.getEntityUpdateCount());
+		assertEquals(2, statistics.getPrepareStatementCount());
+	}
+
+	@DisplayName("루틴 진행 테스트 - 오늘 RoutineDay 를 조건부 update 로 한 번만 완료 처리")
+	@Test
+	void given_ProgressedRoutine_when_ProgressToday_then_ReturnFalse() {
+		//given
+		Routine routine = makeRoutine();
+		entityManager.flush();
+		entityManager.clear();
+
+		//when
+		boolean first = routineDayService.progressToday(routine.getId(), user.getId(), user.today());
+		boolean second = routineDayService.progressToday(routine.getId(), user.getId(), user.today());
+		entityManager.clear();
+
+		//then
+		Routine progressed = routineRepository.findById(routine.getId()).orElseThrow();
+		assertTrue(first);
+		assertFalse(second);
+		assertEquals(1, progressed.getCompletedCount());
+		assertEquals(Routine.ROUTINE_MAX_DAY, progressed.getRequiredCount());
+	}
+
+	@DisplayName("루틴 목록 조회 테스트 - 루틴 수와 관계없이 한 번의 쿼리로 오늘 진행 여부까지 조회")
+	@Test
+	void given_Routines_when_FindAllSummaries_then_SingleStatement() {
+		//given
+		Routine progressed = makeRoutine();
+		makeRoutine();
+		makeRoutine();
+		entityManager.flush();
+		routineDayService.progressToday(progressed.getId(), user.getId(), user.today());
+		entityManager.clear();
+		statistics.clear();
+
+		//when
+		List<RoutineSummary> summaries = routineRepository.findAllSummariesByUserId(user.getId(),
+			user.today().toEpochDay());
+
+		//then
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(3, summaries.size());
+		assertTrue(summaries.get(0).isCompletedOn(user.today()));
+		assertFalse(summaries.get(1).isCompletedOn(user.today()));
+	}
+
+	@DisplayName("루틴 상세 조회 테스트 - 소유자 확인과 유저, RoutineDay 조회를 한 번의 쿼리로 처리")
+	@Test
+	void given_Routine_when_FindDetail_then_SingleStatement() {
+		//given
+		Routine routine = makeRoutine();
+		entityManager.flush();
+		entityManager.clear();
+		statistics.clear();
+
+		//when
+		Routine detail = routineRepository.findDetailByIdAndUser_Username(routine.getId(), "username").orElseThrow();
+
+		//then
+		assertEquals(Routine.ROUTINE_MAX_DAY, detail.getDailyProgress().size());
+		assertTrue(Hibernate.isInitialized(detail.getUser()));
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertTrue(routineRepository.findDetailByIdAndUser_Username(routine.getId(), "other").isEmpty());
+	}
+
+	private Routine makeRoutine() {
+		return makeRoutine("월화수목금토일");
+	}
+
+	private Routine makeRoutine(String days) {
+		Routine routine = Routine.of("title", RoutineCategory.EXERCISE, DaySet.parse(days), "09:00", user);
+		routineDayService.initializeProgress(routine, user.today());
+		return routineRepository.save(routine);
+	}
+
+}
@@ -0,0 +1,125 @@
+package com.balanceup.keum.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.balanceup.keum.domain.DaySet;
+import com.balanceup.keum.domain.Routine;
+import com.balanceup.keum.domain.RoutineCategory;
+import com.balanceup.keum.domain.User;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class RoutineSequenceMigrationTest {
+
+	@Container
+	private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+		DockerImageName.parse("postgres:14-alpine"));
+
+	@DynamicPropertySource
+	static void postgresProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+	}
+
+	@Autowired
+	private RoutineRepository routineRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private RoutineSequenceMigration migration;
+	private User user;
+	private long maxRoutineId;
+
+	@BeforeEach
+	void setUp() {
+		migration = new RoutineSequenceMigration(jdbcTemplate, new TransactionTemplate(transactionManager),
+			new MigrationHistory(jdbcTemplate));
+
+		user = userRepository.save(User.of("username", "password", "nickname", "kakao"));
+		entityManager.flush();
+		for (long legacyId : new long[] {3, 17, 120}) {
+			jdbcTemplate.update("INSERT INTO routine (routine_id, user_id, routine_title, routine_category, "
+					+ "days_mask, completed, completed_count) VALUES (?, ?, 'legacy', 'EXERCISE', 2, false, 0)",
+				legacyId, user.getId());
+		}
+		maxRoutineId = 120;
+		jdbcTemplate.queryForList("SELECT setval('routine_seq', 1)");
+	}
+
+	@DisplayName("시퀀스 정렬 테스트 - 기존 최대 id 보다 뒤처진 시퀀스를 할당 크기만큼 앞으로 이동")
+	@Test
+	void given_StaleSequence_when_Run_then_AlignPastMaxId() {
+		//when
+		migration.afterSingletonsInstantiated();
+
+		//then
+		assertEquals(maxRoutineId + 50, lastValue("routine_seq"));
+		assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM migration_history WHERE name = ?",
+			Integer.class, RoutineSequenceMigration.MIGRATION_NAME));
+	}
+
+	@DisplayName("시퀀스 정렬 테스트 - 이미 적용된 경우 다시 실행하지 않음")
+	@Test
+	void given_AppliedMigration_when_RunAgain_then_Skip() {
+		//given
+		migration.afterSingletonsInstantiated();
+		jdbcTemplate.queryForList("SELECT setval('routine_seq', 1)");
+
+		//when
+		migration.afterSingletonsInstantiated();
+
+		//then
+		assertEquals(1, lastValue("routine_seq"));
+	}
+
+	@DisplayName("시퀀스 정렬 테스트 - 기존 id 가 있는 DB 에서 정렬 후 저장한 루틴은 기존 id 와 충돌하지 않음")
+	@Test
+	void given_LegacyIds_when_SaveAfterRun_then_NoCollision() {
+		//given
+		migration.afterSingletonsInstantiated();
+
+		//when
+		Routine routine = routineRepository.save(
+			Routine.of("title", RoutineCategory.EXERCISE, DaySet.parse("월"), "09:00", user));
+		entityManager.flush();
+
+		//then
+		assertTrue(routine.getId() > maxRoutineId);
+		assertEquals(4, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM routine", Integer.class));
+	}
+
+	private long lastValue(String sequence) {
+		return jdbcTemplate.queryForObject("SELECT last_value FROM " + sequence, Long.class);
+	}
+
+}
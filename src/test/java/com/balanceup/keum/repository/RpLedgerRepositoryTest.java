@@ -0,0 +1,138 @@
+package com.balanceup.keum.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.balanceup.keum.domain.RpRewardType;
+import com.balanceup.keum.domain.User;
+import com.balanceup.keum.service.RpService;
+import com.balanceup.keum.service.UserService;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=create-drop", "rp.flush.batch-size=1"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(RpService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class RpLedgerRepositoryTest {
+
+	@Container
+	private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+		DockerImageName.parse("postgres:14-alpine"));
+
+	@DynamicPropertySource
+	static void postgresProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+	}
+
+	@MockBean
+	private UserService userService;
+
+	@MockBean
+	private UserCache userCache;
+
+	@Autowired
+	private RpService rpService;
+
+	@Autowired
+	private RpLedgerRepository rpLedgerRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void tearDown() {
+		rpLedgerRepository.deleteAllInBatch();
+		userRepository.deleteAllInBatch();
+	}
+
+	@DisplayName("RP 원장 테스트 - 중복 지급은 한 번만 적립하고 동시에 반영해도 유저 RP 에 한 번만 더함")
+	@Test
+	void given_DuplicatedAwards_when_FlushConcurrently_then_ApplyOnce() throws Exception {
+		//given
+		User user = userRepository.save(User.of("username", "password", "nickname", "kakao"));
+		assertTrue(rpService.award(user.getId(), 1L, 19000L, RpRewardType.DAILY_PROGRESS));
+		assertFalse(rpService.award(user.getId(), 1L, 19000L, RpRewardType.DAILY_PROGRESS));
+		assertTrue(rpService.award(user.getId(), 1L, 19001L, RpRewardType.DAILY_PROGRESS));
+		assertTrue(rpService.award(user.getId(), 2L, 19000L, RpRewardType.DAILY_PROGRESS));
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		CountDownLatch start = new CountDownLatch(1);
+
+		//when
+		try {
+			CompletableFuture<Void> first = CompletableFuture.runAsync(() -> flushAfter(start), executor);
+			CompletableFuture<Void> second = CompletableFuture.runAsync(() -> flushAfter(start), executor);
+			start.countDown();
+			CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		//then
+		int expected = RpRewardType.DAILY_PROGRESS.getAmount() * 3;
+		assertEquals(expected, jdbcTemplate.queryForObject("SELECT rp FROM \"user\" WHERE id = ?", Integer.class,
+			user.getId()));
+		assertEquals(3, rpLedgerRepository.count());
+		assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rp_ledger WHERE applied = false",
+			Integer.class));
+		verify(userCache, atLeastOnce()).invalidate("username");
+	}
+
+	@DisplayName("RP 원장 테스트 - 유저가 없는 적립 내역도 반영 처리하고 뒤의 내역까지 이어서 반영")
+	@Test
+	void given_OrphanedAwardFirst_when_Flush_then_ApplyAll() {
+		//given
+		User user = userRepository.save(User.of("username", "password", "nickname", "kakao"));
+		assertTrue(rpService.award(user.getId() + 1000, 1L, 19000L, RpRewardType.DAILY_PROGRESS));
+		assertTrue(rpService.award(user.getId(), 2L, 19000L, RpRewardType.DAILY_PROGRESS));
+
+		//when
+		rpService.flush();
+
+		//then
+		assertEquals(RpRewardType.DAILY_PROGRESS.getAmount(), jdbcTemplate.queryForObject(
+			"SELECT rp FROM \"user\" WHERE id = ?", Integer.class, user.getId()));
+		assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rp_ledger WHERE applied = false",
+			Integer.class));
+	}
+
+	private void flushAfter(CountDownLatch start) {
+		try {
+			start.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+		rpService.flush();
+	}
+
+}
@@ -0,0 +1,147 @@
+package com.balanceup.keum.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.balanceup.keum.domain.User;
+
+@ExtendWith(MockitoExtension.class)
+public class UserCacheTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private KeyValueStore keyValueStore;
+
+	@InjectMocks
+	private UserCache userCache;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(userCache, "enabled", true);
+		ReflectionTestUtils.setField(userCache, "maximumSize", 100);
+		ReflectionTestUtils.setField(userCache, "ttlMs", 60 * 1000L);
+		userCache.init();
+	}
+
+	@DisplayName("유저 캐시 테스트 - 두 번째 조회는 DB 를 거치지 않고 사본을 반환")
+	@Test
+	void given_CachedUser_when_FindByUsername_then_ReturnCopyWithoutQuery() {
+		//given
+		User user = User.of("username", "password", "nickname", "kakao");
+		when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+
+		//when
+		User first = userCache.findByUsername("username").orElseThrow();
+		User second = userCache.findByUsername("username").orElseThrow();
+
+		//then
+		verify(userRepository, times(1)).findByUsername("username");
+		assertNotSame(user, first);
+		assertNotSame(first, second);
+		assertEquals("nickname", second.getNickname());
+	}
+
+	@DisplayName("유저 캐시 무효화 테스트 - 트랜잭션 밖에서는 즉시 지우고 다른 인스턴스에 전파")
+	@Test
+	void given_CachedUser_when_Invalidate_then_QueryAgainAndPublish() {
+		//given
+		User user = User.of("username", "password", "nickname", "kakao");
+		when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+		userCache.findByUsername("username");
+
+		//when
+		userCache.invalidate("username");
+		userCache.findByUsername("username");
+
+		//then
+		verify(userRepository, times(2)).findByUsername("username");
+		verify(keyValueStore).publish(UserCache.INVALIDATION_TOPIC, "username");
+	}
+
+	@DisplayName("유저 캐시 무효화 테스트 - 트랜잭션 안에서는 커밋 후에 지움")
+	@Test
+	void given_ActiveTransaction_when_Invalidate_then_EvictAfterCommit() {
+		//given
+		User user = User.of("username", "password", "nickname", "kakao");
+		when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+		userCache.findByUsername("username");
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			//when
+			userCache.invalidate("username");
+			userCache.findByUsername("username");
+			verify(keyValueStore, never()).publish(anyString(), anyString());
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		userCache.findByUsername("username");
+
+		//then
+		verify(userRepository, times(2)).findByUsername("username");
+		verify(keyValueStore).publish(UserCache.INVALIDATION_TOPIC, "username");
+	}
+
+	@DisplayName("유저 캐시 무효화 테스트 - DB 조회 중에 무효화되면 읽어 온 사본을 캐시에 남기지 않음")
+	@Test
+	void given_InvalidateDuringLoad_when_FindByUsername_then_NotCacheStaleUser() {
+		//given
+		User stale = User.of("username", "password", "stale", "kakao");
+		User fresh = User.of("username", "password", "fresh", "kakao");
+		when(userRepository.findByUsername("username"))
+			.thenAnswer(invocation -> {
+				userCache.invalidate("username");
+				return Optional.of(stale);
+			})
+			.thenReturn(Optional.of(fresh));
+
+		//when
+		User first = userCache.findByUsername("username").orElseThrow();
+		User second = userCache.findByUsername("username").orElseThrow();
+
+		//then
+		assertEquals("stale", first.getNickname());
+		assertEquals("fresh", second.getNickname());
+		verify(userRepository, times(2)).findByUsername("username");
+	}
+
+	@DisplayName("유저 캐시 무효화 테스트 - 다른 인스턴스의 무효화 메시지를 받으면 지움")
+	@Test
+	@SuppressWarnings("unchecked")
+	void given_InvalidationMessage_when_Receive_then_Evict() {
+		//given
+		ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+		verify(keyValueStore).subscribe(eq(UserCache.INVALIDATION_TOPIC), listener.capture());
+
+		User user = User.of("username", "password", "nickname", "kakao");
+		when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+		userCache.findByUsername("username");
+
+		//when
+		listener.getValue().accept("username");
+		userCache.findByUsername("username");
+
+		//then
+		verify(userRepository, times(2)).findByUsername("username");
+	}
+
+}
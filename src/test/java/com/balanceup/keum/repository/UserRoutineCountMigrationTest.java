@@ -0,0 +1,112 @@
+package com.balanceup.keum.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.balanceup.keum.domain.DaySet;
+import com.balanceup.keum.domain.Routine;
+import com.balanceup.keum.domain.RoutineCategory;
+import com.balanceup.keum.domain.User;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class UserRoutineCountMigrationTest {
+
+	@Container
+	private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+		DockerImageName.parse("postgres:14-alpine"));
+
+	@DynamicPropertySource
+	static void postgresProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+	}
+
+	@Autowired
+	private RoutineRepository routineRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private UserRoutineCountMigration migration;
+
+	@BeforeEach
+	void setUp() {
+		migration = new UserRoutineCountMigration(jdbcTemplate, new TransactionTemplate(transactionManager),
+			new MigrationHistory(jdbcTemplate));
+	}
+
+	@DisplayName("루틴 수 보정 테스트 - 루틴 수와 다른 카운터를 보정하고 루틴이 없는 유저는 0 으로 초기화")
+	@Test
+	void given_DriftedRoutineCounts_when_Run_then_ResetToActualCount() {
+		//given
+		User withRoutines = userRepository.save(User.of("username", "password", "nickname", "kakao"));
+		User withoutRoutines = userRepository.save(User.of("empty", "password", "empty", "kakao"));
+		routineRepository.save(makeRoutine("월", withRoutines));
+		routineRepository.save(makeRoutine("화", withRoutines));
+		entityManager.flush();
+		jdbcTemplate.update("UPDATE \"user\" SET routine_count = 0 WHERE id = ?", withRoutines.getId());
+		jdbcTemplate.update("UPDATE \"user\" SET routine_count = 5 WHERE id = ?", withoutRoutines.getId());
+
+		//when
+		migration.run(null);
+
+		//then
+		assertEquals(2, routineCount(withRoutines));
+		assertEquals(0, routineCount(withoutRoutines));
+	}
+
+	@DisplayName("루틴 수 보정 테스트 - 이미 적용된 경우 다시 계산하지 않음")
+	@Test
+	void given_AppliedMigration_when_RunAgain_then_KeepCounter() {
+		//given
+		User user = userRepository.save(User.of("username", "password", "nickname", "kakao"));
+		entityManager.flush();
+		migration.run(null);
+		jdbcTemplate.update("UPDATE \"user\" SET routine_count = 1 WHERE id = ?", user.getId());
+
+		//when
+		migration.run(null);
+
+		//then
+		assertEquals(1, routineCount(user));
+	}
+
+	private static Routine makeRoutine(String days, User user) {
+		return Routine.of("title", RoutineCategory.EXERCISE, DaySet.parse(days), "09:00", user);
+	}
+
+	private int routineCount(User user) {
+		return jdbcTemplate.queryForObject("SELECT routine_count FROM \"user\" WHERE id = ?", Integer.class,
+			user.getId());
+	}
+
+}
@@ -0,0 +1,122 @@
+package com.balanceup.keum.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.balanceup.keum.config.JpaConfig;
+import com.balanceup.keum.controller.dto.request.routine.RoutineMakeRequest;
+import com.balanceup.keum.domain.RoutineCategory;
+import com.balanceup.keum.domain.User;
+import com.balanceup.keum.repository.RoutineDayRepository;
+import com.balanceup.keum.repository.RoutineRepository;
+import com.balanceup.keum.repository.UserRepository;
+
+@DataJpaTest
+@Import(JpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class RoutineServiceConcurrencyTest {
+
+	private static final int THREADS = 16;
+	private static final int ROUTINE_MAXIMUM = 4;
+
+	@Autowired
+	private RoutineRepository routineRepository;
+
+	@Autowired
+	private RoutineDayRepository routineDayRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private RoutineService routineService;
+	private TransactionTemplate transactionTemplate;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(User.of("username", "password", "nickname", "kakao"));
+
+		UserService userService = mock(UserService.class);
+		given(userService.findUserByUsername("username")).willReturn(user);
+
+		routineService = new RoutineService(userService, new RoutineDayService(routineDayRepository, routineRepository),
+			mock(RpService.class), routineRepository, userRepository);
+		transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@AfterEach
+	void tearDown() {
+		routineDayRepository.deleteAllInBatch();
+		routineRepository.deleteAllInBatch();
+		userRepository.deleteAllInBatch();
+	}
+
+	@DisplayName("루틴 동시 생성 테스트 - 여러 스레드가 동시에 생성해도 최대 갯수까지만 생성")
+	@Test
+	void given_ConcurrentMakeRequests_when_MakeRoutine_then_CreateUpToMaximum() throws InterruptedException {
+		//given
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(THREADS);
+		AtomicInteger created = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+
+		//when
+		for (int i = 0; i < THREADS; i++) {
+			executor.execute(() -> {
+				try {
+					start.await();
+					transactionTemplate.executeWithoutResult(status -> routineService.makeRoutine(getRoutineMakeRequest()));
+					created.incrementAndGet();
+				} catch (IllegalStateException e) {
+					rejected.incrementAndGet();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		start.countDown();
+		assertTrue(done.await(30, TimeUnit.SECONDS));
+		executor.shutdown();
+
+		//then
+		assertEquals(ROUTINE_MAXIMUM, created.get());
+		assertEquals(THREADS - ROUTINE_MAXIMUM, rejected.get());
+		assertEquals(ROUTINE_MAXIMUM, routineRepository.count());
+		assertEquals(ROUTINE_MAXIMUM, userRepository.findById(user.getId()).orElseThrow().getRoutineCount());
+	}
+
+	private static RoutineMakeRequest getRoutineMakeRequest() {
+		RoutineMakeRequest request = new RoutineMakeRequest();
+		request.setUsername("username");
+		request.setRoutineTitle("title");
+		request.setDays("월화수");
+		request.setAlarmTime("09:00");
+		request.setRoutineCategory(RoutineCategory.EXERCISE);
+		return request;
+	}
+
+}
@@ -3,7 +3,7 @@ package com.balanceup.keum.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
-import java.util.List;
+import java.time.LocalDate;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -20,10 +20,13 @@ import com.balanceup.keum.controller.dto.request.routine.RoutineInquireRequest;
 import com.balanceup.keum.controller.dto.request.routine.RoutineMakeRequest;
 import com.balanceup.keum.controller.dto.request.routine.RoutineProgressRequest;
 import com.balanceup.keum.controller.dto.request.routine.RoutineUpdateRequest;
+import com.balanceup.keum.domain.DaySet;
 import com.balanceup.keum.domain.Routine;
 import com.balanceup.keum.domain.RoutineCategory;
+import com.balanceup.keum.domain.RpRewardType;
 import com.balanceup.keum.domain.User;
 import com.balanceup.keum.repository.RoutineRepository;
+import com.balanceup.keum.repository.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
 public class RoutineServiceTest {
@@ -31,12 +34,18 @@ public class RoutineServiceTest {
 	@Mock
 	private RoutineRepository routineRepository;
 
+	@Mock
+	private UserRepository userRepository;
+
 	@Mock
 	private UserService userService;
 
 	@Mock
 	private RoutineDayService routineDayService;
 
+	@Mock
+	private RpService rpService;
+
 	@InjectMocks
 	private RoutineService routineService;
 
@@ -48,8 +57,8 @@ public class RoutineServiceTest {
 
 		//when
 		when(userService.findUserByUsername(eq(request.getUsername()))).thenReturn(mock(User.class));
-		when(routineRepository.findAllByUser(any(User.class))).thenReturn(mock(List.class));
-		when(routineDayService.makeRoutineDays()).thenReturn(mock(List.class));
+		when(userRepository.increaseRoutineCount(any(), anyInt())).thenReturn(1);
+		doNothing().when(routineDayService).initializeProgress(any(Routine.class), any());
 		when(routineRepository.save(any())).thenReturn(mock(Routine.class));
 
 		//then
@@ -75,11 +84,10 @@ public class RoutineServiceTest {
 	void given_OverRoutineNumbers_when_makeRoutine_then_ThrowIllegalStateException() {
 		//given
 		RoutineMakeRequest request = getRoutineMakeRequestFixture();
-		Routine routine = Routine.ofRoutineInfo(request, List.of(), User.of("username", "1234", "asdf", "asd"));
 
 		//when
 		when(userService.findUserByUsername(eq(request.getUsername()))).thenReturn(mock(User.class));
-		when(routineRepository.findAllByUser(any(User.class))).thenReturn(List.of(routine, routine, routine, routine));
+		when(userRepository.increaseRoutineCount(any(), anyInt())).thenReturn(0);
 		//then
 		IllegalStateException e = assertThrows(IllegalStateException.class,
 			() -> routineService.makeRoutine(request));
@@ -95,8 +103,8 @@ public class RoutineServiceTest {
 
 		//when
 		when(userService.findUserByUsername(eq(request.getUsername()))).thenReturn(mock(User.class));
-		when(routineRepository.findAllByUser(any(User.class))).thenReturn(mock(List.class));
-		doThrow(IllegalArgumentException.class).when(routineDayService).makeRoutineDays();
+		when(userRepository.increaseRoutineCount(any(), anyInt())).thenReturn(1);
+		doThrow(IllegalArgumentException.class).when(routineDayService).initializeProgress(any(Routine.class), any());
 
 		//then
 		assertThrows(IllegalArgumentException.class,
@@ -111,8 +119,8 @@ public class RoutineServiceTest {
 
 		//when
 		when(userService.findUserByUsername(eq(request.getUsername()))).thenReturn(mock(User.class));
-		when(routineRepository.findAllByUser(any(User.class))).thenReturn(mock(List.class));
-		doReturn(mock(List.class)).when(routineDayService).makeRoutineDays();
+		when(userRepository.increaseRoutineCount(any(), anyInt())).thenReturn(1);
+		doNothing().when(routineDayService).initializeProgress(any(Routine.class), any());
 		doThrow(IllegalArgumentException.class).when(routineRepository).save(any(Routine.class));
 
 		//then
@@ -175,25 +183,28 @@ public class RoutineServiceTest {
 		RoutineUpdateRequest request = getRoutineUpdateRequestFixture();
 
 		//when
-		when(userService.findUserByUsername(eq(request.getUsername()))).thenReturn(mock(User.class));
-		when(routineRepository.findById(eq(request.getRoutineId()))).thenReturn(Optional.of(mock(Routine.class)));
+		when(routineRepository.findDetailByIdAndUser_Username(eq(request.getRoutineId()), eq(request.getUsername())))
+			.thenReturn(Optional.of(getRoutineFixture()));
 
 		//then
 		assertDoesNotThrow(() -> routineService.updateRoutine(request));
 	}
 
-	@DisplayName("루틴 수정 테스트 (username 이 정확하지 않을때)")
+	@DisplayName("루틴 수정 테스트 (다른 유저의 루틴일 때)")
 	@Test
-	void given_InvalidUsername_when_UpdateRoutine_then_ThrowUsernameNotFoundException() {
+	void given_OtherUsersRoutine_when_UpdateRoutine_then_ThrowIllegalArgumentException() {
 		//given
 		RoutineUpdateRequest request = getRoutineUpdateRequestFixture();
+		request.setUsername("other");
 
 		//when
-		when(userService.findUserByUsername(eq(request.getUsername()))).thenThrow(UsernameNotFoundException.class);
+		when(routineRepository.findDetailByIdAndUser_Username(eq(request.getRoutineId()), eq("other")))
+			.thenReturn(Optional.empty());
 
 		//then
-		assertThrows(UsernameNotFoundException.class,
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
 			() -> routineService.updateRoutine(request));
+		assertEquals("이미 삭제된 루틴 id 이거나, 잘못된 id 입니다.", e.getMessage());
 	}
 
 	@DisplayName("루틴 수정 테스트 (루틴 id가 존재하지 않을때)")
@@ -203,8 +214,8 @@ public class RoutineServiceTest {
 		RoutineUpdateRequest request = getRoutineUpdateRequestFixture();
 
 		//when
-		when(userService.findUserByUsername(eq(request.getUsername()))).thenReturn(mock(User.class));
-		when(routineRepository.findById(eq(request.getRoutineId()))).thenReturn(Optional.empty());
+		when(routineRepository.findDetailByIdAndUser_Username(eq(request.getRoutineId()), eq(request.getUsername())))
+			.thenReturn(Optional.empty());
 
 		//then
 		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
@@ -220,8 +231,8 @@ public class RoutineServiceTest {
 		request.setRoutineTitle(null);
 
 		//when
-		when(userService.findUserByUsername(eq(request.getUsername()))).thenReturn(mock(User.class));
-		when(routineRepository.findById(eq(request.getRoutineId()))).thenReturn(Optional.of(mock(Routine.class)));
+		when(routineRepository.findDetailByIdAndUser_Username(eq(request.getRoutineId()), eq(request.getUsername())))
+			.thenReturn(Optional.of(getRoutineFixture()));
 
 		//then
 		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
@@ -237,8 +248,8 @@ public class RoutineServiceTest {
 		request.setDays(null);
 
 		//when
-		when(userService.findUserByUsername(eq(request.getUsername()))).thenReturn(mock(User.class));
-		when(routineRepository.findById(eq(request.getRoutineId()))).thenReturn(Optional.of(mock(Routine.class)));
+		when(routineRepository.findDetailByIdAndUser_Username(eq(request.getRoutineId()), eq(request.getUsername())))
+			.thenReturn(Optional.of(getRoutineFixture()));
 
 		//then
 		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
@@ -253,25 +264,28 @@ public class RoutineServiceTest {
 		RoutineInquireRequest request = getRoutineInquireRequestFixture();
 
 		//when
-		when(userService.findUserByUsername(eq(request.getUsername()))).thenReturn(mock(User.class));
-		when(routineRepository.findById(eq(request.getRoutineId()))).thenReturn(Optional.of(mock(Routine.class)));
+		when(routineRepository.findDetailByIdAndUser_Username(eq(request.getRoutineId()), eq(request.getUsername())))
+			.thenReturn(Optional.of(getRoutineFixture()));
 
 		//then
 		assertDoesNotThrow(() -> routineService.inquireRoutine(request));
 	}
 
-	@DisplayName("루틴 조회 테스트(username 이 정확하지 않을 때)")
+	@DisplayName("루틴 조회 테스트(다른 유저의 루틴일 때)")
 	@Test
-	void given_InvalidUsername_when_InquireRoutine_ThrowsUsernameNotFoundException() {
+	void given_OtherUsersRoutine_when_InquireRoutine_then_ThrowIllegalArgumentException() {
 		//given
 		RoutineInquireRequest request = getRoutineInquireRequestFixture();
+		request.setUsername("other");
 
 		//when
-		when(userService.findUserByUsername(eq(request.getUsername()))).thenThrow(UsernameNotFoundException.class);
+		when(routineRepository.findDetailByIdAndUser_Username(eq(request.getRoutineId()), eq("other")))
+			.thenReturn(Optional.empty());
 
 		//then
-		assertThrows(UsernameNotFoundException.class,
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
 			() -> routineService.inquireRoutine(request));
+		assertEquals("이미 삭제된 루틴 id 이거나, 잘못된 id 입니다.", e.getMessage());
 	}
 
 	@DisplayName("루틴 조회 테스트(루틴 id가 정확하지 않을 때)")
@@ -281,8 +295,8 @@ public class RoutineServiceTest {
 		RoutineInquireRequest request = getRoutineInquireRequestFixture();
 
 		//when
-		when(userService.findUserByUsername(eq(request.getUsername()))).thenReturn(mock(User.class));
-		when(routineRepository.findById(eq(request.getRoutineId()))).thenReturn(Optional.empty());
+		when(routineRepository.findDetailByIdAndUser_Username(eq(request.getRoutineId()), eq(request.getUsername())))
+			.thenReturn(Optional.empty());
 
 		//then
 		assertThrows(IllegalArgumentException.class,
@@ -296,26 +310,29 @@ public class RoutineServiceTest {
 		RoutineDeleteRequest request = getRoutineDeleteRequestFixture();
 
 		//when
-		when(userService.findUserByUsername(eq(request.getUsername()))).thenReturn(mock(User.class));
-		when(routineRepository.findById(eq(request.getRoutineId()))).thenReturn(Optional.of(mock(Routine.class)));
+		when(routineRepository.findDetailByIdAndUser_Username(eq(request.getRoutineId()), eq(request.getUsername())))
+			.thenReturn(Optional.of(getRoutineFixture()));
 		doNothing().when(routineRepository).delete(any(Routine.class));
 
 		//then
 		assertDoesNotThrow(() -> routineService.deleteRoutine(request));
 	}
 
-	@DisplayName("루틴 삭제 테스트(username 이 정확하지 않을 때)")
+	@DisplayName("루틴 삭제 테스트(다른 유저의 루틴일 때)")
 	@Test
-	void given_InvalidUsername_when_DeleteRoutine_then_ThrowUsernameNotFoundException() {
+	void given_OtherUsersRoutine_when_DeleteRoutine_then_ThrowIllegalArgumentException() {
 		//given
 		RoutineDeleteRequest request = getRoutineDeleteRequestFixture();
+		request.setUsername("other");
 
 		//when
-		when(userService.findUserByUsername(eq(request.getUsername()))).thenThrow(UsernameNotFoundException.class);
+		when(routineRepository.findDetailByIdAndUser_Username(eq(request.getRoutineId()), eq("other")))
+			.thenReturn(Optional.empty());
 
 		//then
-		assertThrows(UsernameNotFoundException.class,
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
 			() -> routineService.deleteRoutine(request));
+		assertEquals("이미 삭제된 루틴 id 이거나, 잘못된 id 입니다.", e.getMessage());
 	}
 
 	@DisplayName("루틴 삭제 테스트(루틴 id가 정확하지 않을 때)")
@@ -325,8 +342,8 @@ public class RoutineServiceTest {
 		RoutineDeleteRequest request = getRoutineDeleteRequestFixture();
 
 		//when
-		when(userService.findUserByUsername(eq(request.getUsername()))).thenReturn(mock(User.class));
-		when(routineRepository.findById(eq(request.getRoutineId()))).thenReturn(Optional.empty());
+		when(routineRepository.findDetailByIdAndUser_Username(eq(request.getRoutineId()), eq(request.getUsername())))
+			.thenReturn(Optional.empty());
 
 		//then
 		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
@@ -342,13 +359,28 @@ public class RoutineServiceTest {
 
 		//when
 		User mockUser = mock(User.class);
-		when(userService.findUserByUsername(eq(request.getUsername()))).thenReturn(mockUser);
-		when(routineRepository.findById(eq(request.getRoutineId()))).thenReturn(Optional.of(mock(Routine.class)));
-		doNothing().when(routineDayService).progressDailyRoutine(any(Routine.class));
-		doNothing().when(mockUser).earnRp(1);
+		when(userService.findCachedUser(eq(request.getUsername()))).thenReturn(mockUser);
+		when(mockUser.today()).thenReturn(LocalDate.of(2023, 1, 2));
+		when(routineDayService.progressToday(eq(request.getRoutineId()), any(), any())).thenReturn(true);
+
+		//then
+		assertDoesNotThrow(() -> routineService.progressRoutine(request));
+		verify(rpService).award(any(), eq(request.getRoutineId()), anyLong(), eq(RpRewardType.DAILY_PROGRESS));
+	}
+
+	@DisplayName("루틴 진행 테스트 - 이미 완료한 날은 RP 를 지급하지 않음")
+	@Test
+	void given_AlreadyProgressedRoutine_when_ProgressRoutine_then_DoesNotEarnRp() {
+		//given
+		RoutineProgressRequest request = getRoutineProgressRequestFixture();
+
+		//when
+		when(userService.findCachedUser(eq(request.getUsername()))).thenReturn(mock(User.class));
+		when(routineDayService.progressToday(eq(request.getRoutineId()), any(), any())).thenReturn(false);
 
 		//then
 		assertDoesNotThrow(() -> routineService.progressRoutine(request));
+		verify(rpService, never()).award(any(), any(), anyLong(), any(RpRewardType.class));
 	}
 
 	@DisplayName("루틴 진행 테스트 - 루틴 전체 완료")
@@ -361,13 +393,14 @@ public class RoutineServiceTest {
 		User mockUser = mock(User.class);
 		Routine mockRoutine = mock(Routine.class);
 
-		when(userService.findUserByUsername(eq(request.getUsername()))).thenReturn(mockUser);
-		when(routineRepository.findById(eq(request.getRoutineId()))).thenReturn(Optional.of(mockRoutine));
+		when(routineRepository.findByIdAndUser_Username(eq(request.getRoutineId()), eq(request.getUsername())))
+			.thenReturn(Optional.of(mockRoutine));
 		doNothing().when(mockRoutine).isAllDone();
-		doNothing().when(mockUser).earnRp(20);
+		when(mockRoutine.getUser()).thenReturn(mockUser);
 
 		//then
 		assertDoesNotThrow(() -> routineService.allDoneRoutine(request));
+		verify(rpService).award(any(), any(), anyLong(), eq(RpRewardType.ALL_DONE));
 	}
 
 	@DisplayName("루틴 진행 테스트 - 루틴 실패 ")
@@ -379,8 +412,8 @@ public class RoutineServiceTest {
 		//when
 		Routine mockRoutine = mock(Routine.class);
 
-		when(userService.findUserByUsername(eq(request.getUsername()))).thenReturn(mock(User.class));
-		when(routineRepository.findById(eq(request.getRoutineId()))).thenReturn(Optional.of(mockRoutine));
+		when(routineRepository.findByIdAndUser_Username(eq(request.getRoutineId()), eq(request.getUsername())))
+			.thenReturn(Optional.of(mockRoutine));
 		doThrow(IllegalStateException.class).when(mockRoutine).isAllDone();
 
 		//then
@@ -388,6 +421,11 @@ public class RoutineServiceTest {
 			() -> routineService.allDoneRoutine(request));
 	}
 
+	private Routine getRoutineFixture() {
+		return Routine.of("title", RoutineCategory.EXERCISE, DaySet.parse("월화수"), "09:00",
+			User.of("username", "1234", "asdf", "kakao"));
+	}
+
 	private RoutineUpdateRequest getRoutineUpdateRequestFixture() {
 		RoutineUpdateRequest request = new RoutineUpdateRequest();
 		request.setUsername("username");
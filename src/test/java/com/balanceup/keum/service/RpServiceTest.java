@@ -0,0 +1,126 @@
+package com.balanceup.keum.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.balanceup.keum.domain.RpRewardType;
+import com.balanceup.keum.domain.User;
+import com.balanceup.keum.repository.RpFlushResult;
+import com.balanceup.keum.repository.RpLedgerRepository;
+import com.balanceup.keum.repository.UserCache;
+
+@ExtendWith(MockitoExtension.class)
+public class RpServiceTest {
+
+	@Mock
+	private RpLedgerRepository rpLedgerRepository;
+
+	@Mock
+	private UserService userService;
+
+	@Mock
+	private UserCache userCache;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@InjectMocks
+	private RpService rpService;
+
+	@DisplayName("RP 지급 테스트 - 같은 루틴, 같은 날, 같은 보상은 한 번만 지급")
+	@Test
+	void given_DuplicatedReward_when_Award_then_ReturnFalse() {
+		//given
+		when(rpLedgerRepository.insertIfAbsent(1L, 2L, 19000L, "DAILY_PROGRESS", 1)).thenReturn(1, 0);
+
+		//when
+		boolean first = rpService.award(1L, 2L, 19000L, RpRewardType.DAILY_PROGRESS);
+		boolean second = rpService.award(1L, 2L, 19000L, RpRewardType.DAILY_PROGRESS);
+
+		//then
+		assertTrue(first);
+		assertFalse(second);
+	}
+
+	@DisplayName("RP 반영 테스트 - 가져온 적립 내역이 없을 때까지 배치 반복하고 반영된 유저 캐시를 무효화")
+	@Test
+	void given_PendingRewards_when_Flush_then_ApplyUntilEmptyAndInvalidateUsers() {
+		//given
+		when(transactionTemplate.execute(any())).thenAnswer(
+			invocation -> invocation.<TransactionCallback<List<RpFlushResult>>>getArgument(0).doInTransaction(null));
+		when(rpLedgerRepository.applyPending(anyInt()))
+			.thenReturn(List.of(result(3, "first"), result(3, "second")))
+			.thenReturn(List.of(result(1, "third")))
+			.thenReturn(List.of(result(0, null)));
+
+		//when
+		rpService.flush();
+
+		//then
+		verify(rpLedgerRepository, times(3)).applyPending(anyInt());
+		verify(userCache).invalidate("first");
+		verify(userCache).invalidate("second");
+		verify(userCache).invalidate("third");
+	}
+
+	@DisplayName("RP 반영 테스트 - 반영된 유저가 없어도 가져온 적립 내역이 있으면 계속 반복")
+	@Test
+	void given_OrphanedRewards_when_Flush_then_KeepApplying() {
+		//given
+		when(transactionTemplate.execute(any())).thenAnswer(
+			invocation -> invocation.<TransactionCallback<List<RpFlushResult>>>getArgument(0).doInTransaction(null));
+		when(rpLedgerRepository.applyPending(anyInt()))
+			.thenReturn(List.of(result(1, null)))
+			.thenReturn(List.of(result(1, "username")))
+			.thenReturn(List.of(result(0, null)));
+
+		//when
+		rpService.flush();
+
+		//then
+		verify(rpLedgerRepository, times(3)).applyPending(anyInt());
+		verify(userCache).invalidate("username");
+		verifyNoMoreInteractions(userCache);
+	}
+
+	@DisplayName("RP 조회 테스트 - 아직 적립되지 않은 유저는 0")
+	@Test
+	void given_UserWithoutRp_when_GetRp_then_ReturnZero() {
+		//given
+		User user = mock(User.class);
+		when(userService.findCachedUser("username")).thenReturn(user);
+		when(user.getRp()).thenReturn(null);
+
+		//when
+		int rp = rpService.getRp("username");
+
+		//then
+		assertEquals(0, rp);
+	}
+
+	private static RpFlushResult result(long claimed, String username) {
+		return new RpFlushResult() {
+			@Override
+			public Long getClaimed() {
+				return claimed;
+			}
+
+			@Override
+			public String getUsername() {
+				return username;
+			}
+		};
+	}
+
+}
@@ -22,8 +22,10 @@ import com.balanceup.keum.controller.dto.request.user.ReIssueRequest;
 import com.balanceup.keum.controller.dto.request.user.UserDeleteRequest;
 import com.balanceup.keum.controller.dto.request.user.UserNicknameDuplicateRequest;
 import com.balanceup.keum.controller.dto.request.user.UserNicknameUpdateRequest;
+import com.balanceup.keum.controller.dto.request.user.UserTimeZoneUpdateRequest;
 import com.balanceup.keum.domain.User;
-import com.balanceup.keum.repository.RedisRepository;
+import com.balanceup.keum.repository.RefreshTokenStore;
+import com.balanceup.keum.repository.UserCache;
 import com.balanceup.keum.repository.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,7 +38,10 @@ public class UserServiceTest {
 	private JwtTokenUtil jwtTokenUtil;
 
 	@Mock
-	private RedisRepository redisRepository;
+	private RefreshTokenStore refreshTokenStore;
+
+	@Mock
+	private UserCache userCache;
 
 	@InjectMocks
 	private UserService userService;
@@ -150,6 +155,53 @@ public class UserServiceTest {
 		assertDoesNotThrow(() -> userService.updateNickname(request, "username"));
 	}
 
+	@DisplayName("시간대 업데이트 테스트 - 올바른 시간대일 경우 저장하고 유저 캐시를 무효화")
+	@Test
+	void given_ValidTimeZone_when_UpdateTimeZone_then_InvalidateCache() {
+		//given
+		User user = User.of("username", "password", "nickname", "google");
+
+		//mock
+		when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+
+		//when
+		String timeZone = userService.updateTimeZone(new UserTimeZoneUpdateRequest("America/New_York"), "username");
+
+		//then
+		assertEquals("America/New_York", timeZone);
+		assertEquals("America/New_York", user.getTimeZone());
+		verify(userCache).invalidate("username");
+	}
+
+	@DisplayName("시간대 업데이트 테스트 - 올바르지 않은 시간대일 경우")
+	@Test
+	void given_InvalidTimeZone_when_UpdateTimeZone_then_ThrowException() {
+		//given
+		User user = User.of("username", "password", "nickname", "google");
+
+		//mock
+		when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+
+		//when & then
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+			() -> userService.updateTimeZone(new UserTimeZoneUpdateRequest("Mars/Olympus"), "username"));
+		assertEquals("올바르지 않은 시간대입니다.", e.getMessage());
+		verify(userCache, never()).invalidate(anyString());
+	}
+
+	@DisplayName("시간대 업데이트 테스트 - 존재하지 않는 회원일 경우")
+	@Test
+	void given_NonExistentUser_when_UpdateTimeZone_then_ThrowException() {
+		//mock
+		when(userRepository.findByUsername("username")).thenReturn(Optional.empty());
+
+		//when & then
+		IllegalStateException e = assertThrows(IllegalStateException.class,
+			() -> userService.updateTimeZone(new UserTimeZoneUpdateRequest("Asia/Seoul"), "username"));
+		assertEquals("존재하지 않는 회원입니다.", e.getMessage());
+		verify(userCache, never()).invalidate(anyString());
+	}
+
 	@DisplayName("회원탈퇴 테스트 - 로그인한 사용자가 정확하지 않은 경우")
 	@Test
 	void given_NonExistentUser_when_DeleteUser_then_Throw() {
@@ -191,17 +243,18 @@ public class UserServiceTest {
 				List.of(new SimpleGrantedAuthority("ROLE_USER")));
 
 		//mock
-		when(jwtTokenUtil.validateToken(request.getRefreshToken(), details)).thenReturn(false);
+		when(refreshTokenStore.rotate(details.getUsername(), request.getRefreshToken()))
+			.thenThrow(new IllegalStateException(RefreshTokenStore.INVALID_REFRESH_TOKEN_MESSAGE));
 
 		//when & then
 		IllegalStateException e = assertThrows(IllegalStateException.class,
 			() -> userService.reIssue(request, details));
-		assertEquals("Refresh 토큰이 만료되었습니다.", e.getMessage());
+		assertEquals("만료되거나 존재하지 않는 RefreshToken 입니다. 다시 로그인을 시도해주세요", e.getMessage());
 	}
 
-	@DisplayName("Refresh 토큰 테스트 - Redis 에 없는 토큰일 때")
+	@DisplayName("Refresh 토큰 테스트 - 이미 사용된 토큰일 때")
 	@Test
-	void given_NotNormalToken_when_ReIssue_then_ThrowException() {
+	void given_ReusedToken_when_ReIssue_then_ThrowException() {
 		//given
 		ReIssueRequest request = getReIssueRequestFixture();
 		UserDetails details =
@@ -209,13 +262,13 @@ public class UserServiceTest {
 				List.of(new SimpleGrantedAuthority("ROLE_USER")));
 
 		//mock
-		when(jwtTokenUtil.validateToken(request.getRefreshToken(), details)).thenReturn(true);
-		when(redisRepository.getValues(request.getUsername())).thenReturn("notNormalToken");
+		when(refreshTokenStore.rotate(details.getUsername(), request.getRefreshToken()))
+			.thenThrow(new IllegalStateException(RefreshTokenStore.REUSED_REFRESH_TOKEN_MESSAGE));
 
 		//when & then
 		IllegalStateException e = assertThrows(IllegalStateException.class,
 			() -> userService.reIssue(request, details));
-		assertEquals("만료되거나 존재하지 않는 RefreshToken 입니다. 다시 로그인을 시도해주세요", e.getMessage());
+		assertEquals("이미 사용된 RefreshToken 입니다. 다시 로그인을 시도해주세요", e.getMessage());
 	}
 
 	@DisplayName("Refresh 토큰 테스트 - Redis에 존재하는 토큰일 때")
@@ -228,12 +281,16 @@ public class UserServiceTest {
 				List.of(new SimpleGrantedAuthority("ROLE_USER")));
 
 		//mock
-		when(jwtTokenUtil.validateToken(request.getRefreshToken(), details)).thenReturn(true);
-		when(redisRepository.getValues(details.getUsername())).thenReturn(request.getRefreshToken());
-		when(jwtTokenUtil.generateToken(details.getUsername())).thenReturn(mock(TokenDto.class));
+		when(refreshTokenStore.rotate(details.getUsername(), request.getRefreshToken())).thenReturn("rotatedToken");
+		when(userCache.findByUsername(details.getUsername())).thenReturn(Optional.of(mock(User.class)));
+		when(jwtTokenUtil.generateAccessToken(any(User.class))).thenReturn("accessToken");
 
-		//when & then
-		assertDoesNotThrow(() -> userService.reIssue(request, details));
+		//when
+		TokenDto token = userService.reIssue(request, details);
+
+		//then
+		assertEquals("accessToken", token.getToken());
+		assertEquals("rotatedToken", token.getRefreshToken());
 	}
 
 	private static ReIssueRequest getReIssueRequestFixture() {
@@ -0,0 +1,71 @@
+package com.balanceup.keum.service.oauth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CircuitBreakerTest {
+
+	private final AtomicLong clock = new AtomicLong();
+	private CircuitBreaker circuitBreaker;
+
+	@BeforeEach
+	void setUp() {
+		circuitBreaker = new CircuitBreaker(4, 4, 50, 75, 1000, 10 * 1000, 2, clock::get);
+	}
+
+	@DisplayName("회로 차단 테스트 - 실패율이 임계치를 넘으면 열리고 호출을 거부")
+	@Test
+	void given_FailureRateExceeded_when_TryAcquire_then_Reject() {
+		//given
+		circuitBreaker.onSuccess(10);
+		circuitBreaker.onSuccess(10);
+		circuitBreaker.onFailure(10);
+		circuitBreaker.onFailure(10);
+
+		//when & then
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+		assertFalse(circuitBreaker.tryAcquire());
+	}
+
+	@DisplayName("회로 차단 테스트 - 느린 호출 비율이 임계치를 넘으면 열림")
+	@Test
+	void given_SlowCallRateExceeded_when_Record_then_Open() {
+		//when
+		circuitBreaker.onSuccess(10);
+		circuitBreaker.onSuccess(2000);
+		circuitBreaker.onSuccess(2000);
+		circuitBreaker.onSuccess(2000);
+
+		//then
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+	}
+
+	@DisplayName("회로 차단 테스트 - 대기 시간이 지나면 반열림 상태에서 허용된 호출만 통과시키고 성공 시 닫힘")
+	@Test
+	void given_OpenCircuit_when_OpenDurationPassed_then_HalfOpenAndClose() {
+		//given
+		for (int i = 0; i < 4; i++) {
+			circuitBreaker.onFailure(10);
+		}
+		clock.addAndGet(10 * 1000);
+
+		//when
+		boolean first = circuitBreaker.tryAcquire();
+		boolean second = circuitBreaker.tryAcquire();
+		boolean third = circuitBreaker.tryAcquire();
+		circuitBreaker.onSuccess(10);
+		circuitBreaker.onSuccess(10);
+
+		//then
+		assertTrue(first);
+		assertTrue(second);
+		assertFalse(third);
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+	}
+
+}
@@ -0,0 +1,137 @@
+package com.balanceup.keum.service.oauth;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+public class IdTokenVerifierTest {
+
+	private static final String KEY_ID = "test-key";
+	private static final String ISSUER = "https://issuer.keum.com";
+	private static final String AUDIENCE = "keum-client";
+
+	@TempDir
+	Path tempDir;
+
+	private KeyPair keyPair;
+	private IdTokenVerifier idTokenVerifier;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		keyPair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+		Path jwks = tempDir.resolve("jwks.json");
+		Files.writeString(jwks, toJwks((RSAPublicKey)keyPair.getPublic()));
+
+		idTokenVerifier = IdTokenVerifier.of(new RestTemplate(), new DefaultResourceLoader(), jwks.toUri().toString(),
+			ISSUER, AUDIENCE).orElseThrow();
+	}
+
+	@DisplayName("ID 토큰 검증 테스트 - 로컬 JWKS 로 서명을 검증하고 email 과 subject 를 반환")
+	@Test
+	void given_SignedIdToken_when_Verify_then_ReturnUserInfo() {
+		//given
+		String idToken = idToken(ISSUER, AUDIENCE, new Date(System.currentTimeMillis() + 60 * 1000));
+
+		//when
+		OAuthUserInfo userInfo = idTokenVerifier.verify(idToken);
+
+		//then
+		assertEquals("username@keum.com", userInfo.getUsername());
+		assertEquals("subject", userInfo.getProviderId());
+	}
+
+	@DisplayName("ID 토큰 검증 테스트 - 발급자, 대상, 만료 시간이 올바르지 않을 경우")
+	@Test
+	void given_InvalidClaims_when_Verify_then_ThrowException() {
+		//given
+		Date expiration = new Date(System.currentTimeMillis() + 60 * 1000);
+		String wrongIssuer = idToken("https://other.com", AUDIENCE, expiration);
+		String wrongAudience = idToken(ISSUER, "other-client", expiration);
+		String expired = idToken(ISSUER, AUDIENCE, new Date(System.currentTimeMillis() - 10 * 60 * 1000));
+
+		//when & then
+		assertThrows(IllegalStateException.class, () -> idTokenVerifier.verify(wrongIssuer));
+		assertThrows(IllegalStateException.class, () -> idTokenVerifier.verify(wrongAudience));
+		assertThrows(IllegalStateException.class, () -> idTokenVerifier.verify(expired));
+	}
+
+	@DisplayName("ID 토큰 검증 테스트 - 원격 JWKS 는 RestTemplate 으로 한 번만 불러옴")
+	@Test
+	void given_RemoteJwks_when_Verify_then_FetchThroughRestTemplateOnce() {
+		//given
+		RestTemplate restTemplate = new RestTemplate();
+		MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+		server.expect(requestTo("https://keys.keum.com/jwks"))
+			.andRespond(withSuccess(toJwks((RSAPublicKey)keyPair.getPublic()), MediaType.APPLICATION_JSON));
+		IdTokenVerifier remoteVerifier = IdTokenVerifier.of(restTemplate, new DefaultResourceLoader(),
+			"https://keys.keum.com/jwks", ISSUER, AUDIENCE).orElseThrow();
+		String idToken = idToken(ISSUER, AUDIENCE, new Date(System.currentTimeMillis() + 60 * 1000));
+
+		//when
+		remoteVerifier.verify(idToken);
+		OAuthUserInfo userInfo = remoteVerifier.verify(idToken);
+
+		//then
+		assertEquals("username@keum.com", userInfo.getUsername());
+		server.verify();
+	}
+
+	@DisplayName("ID 토큰 검증 테스트 - kid 가 없는 토큰은 서명 키를 찾지 않고 거부")
+	@Test
+	void given_IdTokenWithoutKeyId_when_Verify_then_ThrowException() {
+		//given
+		String idToken = Jwts.builder()
+			.setIssuer(ISSUER)
+			.setAudience(AUDIENCE)
+			.setSubject("subject")
+			.claim("email", "username@keum.com")
+			.setExpiration(new Date(System.currentTimeMillis() + 60 * 1000))
+			.signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+			.compact();
+
+		//when & then
+		IllegalStateException e = assertThrows(IllegalStateException.class, () -> idTokenVerifier.verify(idToken));
+		assertEquals("알 수 없는 ID 토큰 서명 키입니다.", e.getMessage());
+	}
+
+	private String idToken(String issuer, String audience, Date expiration) {
+		return Jwts.builder()
+			.setHeaderParam("kid", KEY_ID)
+			.setIssuer(issuer)
+			.setAudience(audience)
+			.setSubject("subject")
+			.claim("email", "username@keum.com")
+			.setExpiration(expiration)
+			.signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+			.compact();
+	}
+
+	private static String toJwks(RSAPublicKey publicKey) {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		return "{\"keys\":[{\"kty\":\"RSA\",\"alg\":\"RS256\",\"use\":\"sig\",\"kid\":\"" + KEY_ID + "\","
+			+ "\"n\":\"" + encoder.encodeToString(publicKey.getModulus().toByteArray()) + "\","
+			+ "\"e\":\"" + encoder.encodeToString(publicKey.getPublicExponent().toByteArray()) + "\"}]}";
+	}
+
+}
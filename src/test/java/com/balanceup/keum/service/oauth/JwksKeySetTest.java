@@ -0,0 +1,117 @@
+package com.balanceup.keum.service.oauth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+public class JwksKeySetTest {
+
+	private static final String KEY_ID = "test-key";
+
+	private final byte[] jwks = toJwks((RSAPublicKey)Keys.keyPairFor(SignatureAlgorithm.RS256).getPublic());
+
+	@DisplayName("JWKS 테스트 - kid 가 null 이면 JWKS 를 불러오지 않고 거부")
+	@Test
+	void given_NullKeyId_when_GetKey_then_ThrowWithoutFetch() {
+		//given
+		AtomicInteger fetches = new AtomicInteger();
+		JwksKeySet keySet = new JwksKeySet(() -> {
+			fetches.incrementAndGet();
+			return jwks;
+		}, 0);
+
+		//when & then
+		IllegalStateException e = assertThrows(IllegalStateException.class, () -> keySet.getKey(null));
+		assertEquals("알 수 없는 ID 토큰 서명 키입니다.", e.getMessage());
+		assertEquals(0, fetches.get());
+	}
+
+	@DisplayName("JWKS 테스트 - 미리 불러온 키는 다시 불러오지 않고, 최소 갱신 간격 안의 모르는 kid 도 다시 불러오지 않음")
+	@Test
+	void given_WarmedKeySet_when_GetKey_then_UseCachedKeys() {
+		//given
+		AtomicInteger fetches = new AtomicInteger();
+		JwksKeySet keySet = new JwksKeySet(() -> {
+			fetches.incrementAndGet();
+			return jwks;
+		}, 60 * 1000L);
+		keySet.refresh();
+
+		//when
+		keySet.getKey(KEY_ID);
+		assertThrows(IllegalStateException.class, () -> keySet.getKey("unknown"));
+
+		//then
+		assertEquals(1, fetches.get());
+	}
+
+	@DisplayName("JWKS 테스트 - 불러오는 중인 갱신이 있으면 함께 기다리고 한 번만 불러옴")
+	@Test
+	void given_RefreshInFlight_when_Refresh_then_FetchOnce() throws Exception {
+		//given
+		AtomicInteger fetches = new AtomicInteger();
+		CountDownLatch fetching = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		JwksKeySet keySet = new JwksKeySet(() -> {
+			fetches.incrementAndGet();
+			fetching.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return jwks;
+		}, 0);
+
+		//when
+		CompletableFuture<Void> first = CompletableFuture.runAsync(keySet::refresh);
+		assertTrue(fetching.await(5, TimeUnit.SECONDS));
+		Thread second = new Thread(keySet::refresh);
+		second.start();
+		for (int i = 0; i < 500 && second.getState() != Thread.State.WAITING; i++) {
+			Thread.sleep(10);
+		}
+		release.countDown();
+		first.get(5, TimeUnit.SECONDS);
+		second.join(5000);
+
+		//then
+		assertFalse(second.isAlive());
+		assertEquals(1, fetches.get());
+		assertNotNull(keySet.getKey(KEY_ID));
+	}
+
+	@DisplayName("JWKS 테스트 - 불러오기에 실패하면 IllegalStateException")
+	@Test
+	void given_FailingSource_when_Refresh_then_ThrowException() {
+		//given
+		JwksKeySet keySet = new JwksKeySet(() -> {
+			throw new IllegalArgumentException("timeout");
+		}, 0);
+
+		//when & then
+		IllegalStateException e = assertThrows(IllegalStateException.class, keySet::refresh);
+		assertEquals("JWKS 를 불러오지 못했습니다.", e.getMessage());
+	}
+
+	private static byte[] toJwks(RSAPublicKey publicKey) {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		return ("{\"keys\":[{\"kty\":\"RSA\",\"alg\":\"RS256\",\"use\":\"sig\",\"kid\":\"" + KEY_ID + "\","
+			+ "\"n\":\"" + encoder.encodeToString(publicKey.getModulus().toByteArray()) + "\","
+			+ "\"e\":\"" + encoder.encodeToString(publicKey.getPublicExponent().toByteArray()) + "\"}]}")
+			.getBytes(StandardCharsets.UTF_8);
+	}
+
+}
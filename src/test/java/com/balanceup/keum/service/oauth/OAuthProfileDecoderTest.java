@@ -0,0 +1,43 @@
+package com.balanceup.keum.service.oauth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class OAuthProfileDecoderTest {
+
+	private final OAuthProfileDecoder kakaoDecoder = new OAuthProfileDecoder(
+		new String[] {"kakao_account", "email"}, new String[] {"id"});
+
+	@DisplayName("제공자 응답 디코딩 테스트 - 중첩 객체의 email 과 숫자 id 만 추출")
+	@Test
+	void given_KakaoProfile_when_Decode_then_ReturnUserInfo() {
+		//given
+		String body = "{\"properties\":{\"id\":\"ignored\",\"email\":\"ignored\"},"
+			+ "\"kakao_account\":{\"profile\":{\"nickname\":\"금\"},\"email\":\"username@kakao.com\"},"
+			+ "\"id\":2632890492}";
+
+		//when
+		OAuthUserInfo userInfo = kakaoDecoder.decode(body.getBytes(StandardCharsets.UTF_8));
+
+		//then
+		assertEquals("username@kakao.com", userInfo.getUsername());
+		assertEquals("2632890492", userInfo.getProviderId());
+	}
+
+	@DisplayName("제공자 응답 디코딩 테스트 - email 이 없을 경우")
+	@Test
+	void given_ProfileWithoutEmail_when_Decode_then_ThrowException() {
+		//given
+		String body = "{\"id\":1,\"kakao_account\":{\"email\":null}}";
+
+		//when & then
+		IllegalStateException e = assertThrows(IllegalStateException.class,
+			() -> kakaoDecoder.decode(body.getBytes(StandardCharsets.UTF_8)));
+		assertEquals("제공자 응답에 email 또는 id 가 없습니다.", e.getMessage());
+	}
+
+}
@@ -0,0 +1,165 @@
+package com.balanceup.keum.service.oauth;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.balanceup.keum.config.util.JwtTokenUtil;
+import com.balanceup.keum.config.util.SocialCredentialEncoder;
+import com.balanceup.keum.controller.dto.TokenDto;
+import com.balanceup.keum.domain.User;
+import com.balanceup.keum.repository.KeyValueStore;
+import com.balanceup.keum.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class OAuthServiceTest {
+
+	@Mock
+	private OAuthProvider provider;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private JwtTokenUtil jwtTokenUtil;
+
+	@Mock
+	private KeyValueStore keyValueStore;
+
+	@Mock
+	private SocialCredentialEncoder credentialEncoder;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@Mock
+	private ProviderCallGuards providerCallGuards;
+
+	private OAuthService oAuthService;
+
+	@BeforeEach
+	void setUp() {
+		when(provider.getName()).thenReturn("test");
+		oAuthService = new OAuthService(List.of(provider), userRepository, jwtTokenUtil, keyValueStore, credentialEncoder,
+			transactionTemplate, Runnable::run, providerCallGuards);
+	}
+
+	@DisplayName("유저 정보 조회 테스트 - 제공자 인증 정보를 저장하고 가입 여부를 반환")
+	@Test
+	void given_NewUser_when_GetUserInfo_then_ReturnSignUpState() {
+		//given
+		when(provider.fetchUserInfo("accessToken")).thenReturn(OAuthUserInfo.of("username", "providerId"));
+		when(provider.getCredentialTtl()).thenReturn(Duration.ofMinutes(1));
+		when(userRepository.findByUsername("username")).thenReturn(Optional.empty());
+		when(providerCallGuards.get("test")).thenReturn(new ProviderCallGuard("test",
+			new CircuitBreaker(10, 5, 50, 100, 1000, 1000, 1, System::currentTimeMillis),
+			new AdaptiveTimeout(10, 5, 0.99, 1.5, 100, 1000)));
+
+		//when
+		Map<String, String> state = oAuthService.getUserInfo("test", "accessToken").join();
+
+		//then
+		assertEquals("username", state.get("username"));
+		assertEquals("test", state.get("provider"));
+		assertEquals("sign-up", state.get("login"));
+		verify(keyValueStore).setValues("oauth-credential:test:username", "providerId", Duration.ofMinutes(1));
+	}
+
+	@DisplayName("유저 정보 조회 테스트 - 제공자 회로가 열려 있으면 호출하지 않고 실패")
+	@Test
+	void given_OpenCircuit_when_GetUserInfo_then_FailFast() {
+		//given
+		CircuitBreaker circuitBreaker = new CircuitBreaker(10, 2, 50, 100, 1000, 60 * 1000, 1,
+			System::currentTimeMillis);
+		circuitBreaker.onFailure(10);
+		circuitBreaker.onFailure(10);
+		when(providerCallGuards.get("test")).thenReturn(new ProviderCallGuard("test", circuitBreaker,
+			new AdaptiveTimeout(10, 5, 0.99, 1.5, 100, 1000)));
+
+		//when
+		CompletionException e = assertThrows(CompletionException.class,
+			() -> oAuthService.getUserInfo("test", "accessToken").join());
+
+		//then
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+		assertInstanceOf(ProviderUnavailableException.class, e.getCause());
+		verify(provider, never()).fetchUserInfo(anyString());
+	}
+
+	@DisplayName("유저 정보 조회 테스트 - 지원하지 않는 제공자일 경우")
+	@Test
+	void given_UnknownProvider_when_GetUserInfo_then_ThrowException() {
+		//when & then
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+			() -> oAuthService.getUserInfo("unknown", "accessToken"));
+		assertEquals("지원하지 않는 로그인 제공자입니다.", e.getMessage());
+	}
+
+	@DisplayName("회원가입 테스트 - 비밀번호 인코딩 이후 트랜잭션은 OAuth 실행기에서 수행")
+	@Test
+	void given_StoredCredential_when_Join_then_SaveUserOnOAuthExecutor() {
+		//given
+		ExecutorService hashingExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "password-hashing-1"));
+		ExecutorService oauthExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "oauth-1"));
+		OAuthService service = new OAuthService(List.of(provider), userRepository, jwtTokenUtil, keyValueStore,
+			credentialEncoder, transactionTemplate, oauthExecutor, providerCallGuards);
+		AtomicReference<String> transactionThread = new AtomicReference<>();
+
+		when(keyValueStore.getValues("oauth-credential:test:username")).thenReturn("providerId");
+		when(credentialEncoder.encode("test", "providerId"))
+			.thenReturn(CompletableFuture.supplyAsync(() -> "{bcrypt}hash", hashingExecutor));
+		when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+			transactionThread.set(Thread.currentThread().getName());
+			return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+		});
+		when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(jwtTokenUtil.generateToken(any(User.class))).thenReturn(new TokenDto("accessToken", "refreshToken"));
+
+		try {
+			//when
+			Map<String, String> tokens = service.join("test", "username", "nickname").join();
+
+			//then
+			assertEquals("accessToken", tokens.get("accessToken"));
+			assertEquals("refreshToken", tokens.get("refreshToken"));
+			assertEquals("oauth-1", transactionThread.get());
+			verify(userRepository).save(argThat(user -> "{bcrypt}hash".equals(user.getPassword())
+				&& "nickname".equals(user.getNickname())));
+		} finally {
+			hashingExecutor.shutdownNow();
+			oauthExecutor.shutdownNow();
+		}
+	}
+
+	@DisplayName("회원가입 테스트 - 저장된 제공자 인증 정보가 만료된 경우")
+	@Test
+	void given_ExpiredCredential_when_Join_then_ThrowException() {
+		//given
+		when(keyValueStore.getValues("oauth-credential:test:username")).thenReturn(null);
+
+		//when & then
+		IllegalStateException e = assertThrows(IllegalStateException.class,
+			() -> oAuthService.join("test", "username", "nickname"));
+		assertEquals("Password is expire in Redis", e.getMessage());
+		verifyNoInteractions(credentialEncoder, userRepository);
+	}
+
+}
@@ -0,0 +1,106 @@
+package com.balanceup.keum.service.oauth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.balanceup.keum.config.util.ReadTimeoutContext;
+
+public class ProviderCallGuardTest {
+
+	private static final Executor DIRECT = Runnable::run;
+
+	private final AtomicLong clock = new AtomicLong();
+	private AdaptiveTimeout adaptiveTimeout;
+
+	@BeforeEach
+	void setUp() {
+		adaptiveTimeout = new AdaptiveTimeout(10, 10, 0.99, 1.0, 10, 1000);
+		for (int i = 0; i < 20; i++) {
+			adaptiveTimeout.record(20);
+		}
+	}
+
+	@DisplayName("제공자 호출 테스트 - 타임아웃은 최대 타임아웃으로 기록되어 타임아웃이 다시 늘어남")
+	@Test
+	void given_ReadTimeouts_when_Call_then_TimeoutGrowsBack() {
+		//given
+		ProviderCallGuard guard = new ProviderCallGuard("kakao",
+			new CircuitBreaker(10, 10, 101, 101, 1000, 10 * 1000, 2, clock::get), adaptiveTimeout);
+		assertEquals(20, adaptiveTimeout.getTimeoutMs());
+
+		//when
+		for (int i = 0; i < 10; i++) {
+			assertThrows(CompletionException.class, () -> guard.call(() -> {
+				throw new ResourceAccessException("timeout", new SocketTimeoutException("Read timed out"));
+			}, DIRECT).join());
+		}
+
+		//then
+		assertEquals(1000, adaptiveTimeout.getTimeoutMs());
+	}
+
+	@DisplayName("제공자 호출 테스트 - 회로가 열리면 타임아웃을 최대값으로 초기화")
+	@Test
+	void given_FailuresOpenCircuit_when_Call_then_ResetTimeout() {
+		//given
+		CircuitBreaker circuitBreaker = new CircuitBreaker(4, 4, 50, 101, 1000, 10 * 1000, 2, clock::get);
+		ProviderCallGuard guard = new ProviderCallGuard("kakao", circuitBreaker, adaptiveTimeout);
+
+		//when
+		for (int i = 0; i < 4; i++) {
+			assertThrows(CompletionException.class, () -> guard.call(() -> {
+				throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+			}, DIRECT).join());
+		}
+
+		//then
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+		assertEquals(1000, adaptiveTimeout.getTimeoutMs());
+	}
+
+	@DisplayName("제공자 호출 테스트 - 닫힌 회로에서는 적응형 타임아웃을 요청 읽기 타임아웃으로 전달")
+	@Test
+	void given_ClosedCircuit_when_Call_then_ApplyAdaptiveReadTimeout() {
+		//given
+		ProviderCallGuard guard = new ProviderCallGuard("kakao",
+			new CircuitBreaker(4, 4, 50, 101, 1000, 10 * 1000, 2, clock::get), adaptiveTimeout);
+
+		//when
+		Integer readTimeout = guard.call(ReadTimeoutContext::get, DIRECT).join();
+
+		//then
+		assertEquals(20, readTimeout);
+		assertNull(ReadTimeoutContext.get());
+	}
+
+	@DisplayName("제공자 호출 테스트 - 반열림 회로의 시험 호출은 최대 타임아웃을 사용")
+	@Test
+	void given_HalfOpenCircuit_when_Call_then_ApplyMaxReadTimeout() {
+		//given
+		CircuitBreaker circuitBreaker = new CircuitBreaker(4, 4, 50, 101, 1000, 10 * 1000, 2, clock::get);
+		ProviderCallGuard guard = new ProviderCallGuard("kakao", circuitBreaker, adaptiveTimeout);
+		for (int i = 0; i < 4; i++) {
+			circuitBreaker.onFailure(10);
+		}
+		clock.set(10 * 1000);
+
+		//when
+		Integer readTimeout = guard.call(ReadTimeoutContext::get, DIRECT).join();
+
+		//then
+		assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+		assertEquals(1000, readTimeout);
+	}
+
+}